@@ -2,6 +2,7 @@ package com.chess.GUI;
 
 import com.chess.GUI.Table.MoveLog;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.GameStatus;
 import com.chess.engine.board.Move;
 
 import javax.swing.*;
@@ -61,9 +62,10 @@ public class GameHistoryPanel extends JPanel{
     }
 
     private String calculateCheckAndCheckmateHash(final Board board) {
-        if(board.currentPlayer().isInCheckMate()){
+        final GameStatus gameStatus = board.getGameStatus();
+        if(gameStatus == GameStatus.CHECKMATE){
             return "#";
-        }else if(board.currentPlayer().isInCheck()){
+        }else if(gameStatus.isInCheck()){
             return "+";
         }
         return "";
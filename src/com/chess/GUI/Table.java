@@ -4,13 +4,16 @@ package com.chess.GUI;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
 import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.GameStatus;
 import com.chess.engine.board.Tile;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.player.MoveTransition;
 import com.chess.engine.player.ai.MoveStrategy;
-import com.chess.engine.player.ai.minMax;
+import com.chess.engine.player.ai.AlphaBeta;
+import com.chess.engine.player.ai.LazySMP;
+import com.chess.engine.player.ai.TimeControl;
+import com.chess.engine.player.ai.TranspositionTable;
 import com.google.common.collect.Lists;
-import sun.tools.jconsole.Tab;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -35,6 +38,7 @@ public class Table extends Observable {
     private static final Dimension OUTER_FRAME_DIMENSION = new Dimension(800, 800);
     private static final Dimension BOARD_PANEL_DIMENSION = new Dimension(600, 550);
     private static final Dimension TILE_PANEL_DIMENSION = new Dimension(20, 20);
+    private static final int HASH_MEGABYTES = 64;
 
     private static String defaultPieceImagesPath = "art/alpha_pieces/";
     private Color lightTileColor = Color.decode("#FFFACD");
@@ -47,6 +51,7 @@ public class Table extends Observable {
     private final BoardPanel boardPanel;
     private final MoveLog moveLog;
     private final GameSetup gameSetup;
+    private final TranspositionTable transpositionTable;
     private Board chessBoard;
     private BoardDirection boardDirection;
     private boolean highlightLegalMoves;
@@ -77,6 +82,7 @@ public class Table extends Observable {
         this.moveLog = new MoveLog();
         this.addObserver(new TableGameAIWatcher());
         this.gameSetup = new GameSetup(this.gameFrame, true);
+        this.transpositionTable = new TranspositionTable(HASH_MEGABYTES);
         this.boardDirection = BoardDirection.NORMAL;
         this.highlightLegalMoves = false;
 
@@ -102,6 +108,11 @@ public class Table extends Observable {
         return this.gameSetup;
     }
 
+    // kept across engine moves so each search starts from what the last one learned
+    private TranspositionTable getTranspositionTable() {
+        return this.transpositionTable;
+    }
+
     private Board getGameBoard(){
         return this.chessBoard;
     }
@@ -214,9 +225,10 @@ public class Table extends Observable {
 
         @Override
         public void update(final Observable obj, final Object arg) {
+            final GameStatus gameStatus = Table.get().getGameBoard().getGameStatus();
+
             if(Table.get().getGameSetup().isAIPlayer(Table.get().getGameBoard().currentPlayer()) &&
-                    !Table.get().getGameBoard().currentPlayer().isInCheckMate() &&
-                    !Table.get().getGameBoard().currentPlayer().isInStaleMate()){
+                    !gameStatus.isGameOver()){
 
                 // create AI thread
                 // execute
@@ -225,11 +237,11 @@ public class Table extends Observable {
                 brain.execute();
             }
 
-            if(Table.get().getGameBoard().currentPlayer().isInCheckMate()){
+            if(gameStatus == GameStatus.CHECKMATE){
                 System.out.println("Game Over " + Table.get().getGameBoard().currentPlayer() + " is in Checkmate!");
             }
 
-            if(Table.get().getGameBoard().currentPlayer().isInStaleMate()){
+            if(gameStatus == GameStatus.STALEMATE){
                 System.out.println("Game Over " + Table.get().getGameBoard().currentPlayer() + " is in Stalemate!");
             }
         }
@@ -243,8 +255,14 @@ public class Table extends Observable {
 
         @Override
         protected Move doInBackground() throws Exception {
-            final MoveStrategy minMax = new minMax(Table.get().getGameSetup().getSearchDepth());
-            final Move bestMove = minMax.execute(Table.get().getGameBoard());
+            final GameSetup gameSetup = Table.get().getGameSetup();
+            final TimeControl timeControl = gameSetup.getMoveTime() > 0 ?
+                    TimeControl.moveTime(gameSetup.getMoveTime() * 1000L) : TimeControl.NONE;
+            final MoveStrategy strategy = gameSetup.getSearchThreads() > 1 ?
+                    new LazySMP(gameSetup.getSearchDepth(), gameSetup.getSearchThreads(), timeControl,
+                                Table.get().getTranspositionTable()) :
+                    new AlphaBeta(gameSetup.getSearchDepth(), timeControl, Table.get().getTranspositionTable());
+            final Move bestMove = strategy.execute(Table.get().getGameBoard());
 
             return bestMove;
         }
@@ -15,31 +15,49 @@ import java.util.*;
 
 public class Board {
 
-    private final List<Tile> gameBoard;
+    // One occupancy word per alliance and piece type, bit i set when tile i holds that piece
+    private final long[] pieceBitboards;
+    private final long whiteOccupancy;
+    private final long blackOccupancy;
+
+    // Piece objects by tile, backing the Tile and Piece views
+    private final Piece[] boardConfig;
     private final Collection<Piece> whitePieces;
     private final Collection<Piece> blackPieces;
     private final Pawn EnPassantPawn;
+    private final int castlingRights;
+
+    // Zobrist hash of the position, the piece part is carried over from the previous board
+    private final long pieceKey;
+    private final long zobristKey;
 
     private final WhitePlayer whitePlayer;
     private final BlackPlayer blackPlayer;
     private final Player currentPlayer;
 
+    // Computed on first use and shared by every caller, racing threads only compute the same value again
+    private volatile GameStatus gameStatus;
 
     private Board(final Builder builder){
 
-        // Create the board and get all white and black pieces
-        this.gameBoard = createGameBoard(builder);
-        this.whitePieces = calculateActivePieces(this.gameBoard, Alliance.WHITE);
-        this.blackPieces = calculateActivePieces(this.gameBoard, Alliance.BLACK);
+        // Create the board bitboards and get all white and black pieces
+        this.boardConfig = createBoardConfig(builder);
+        this.pieceBitboards = createPieceBitboards(this.boardConfig);
+        this.whiteOccupancy = calculateOccupancy(this.pieceBitboards, Alliance.WHITE);
+        this.blackOccupancy = calculateOccupancy(this.pieceBitboards, Alliance.BLACK);
+        this.whitePieces = calculateActivePieces(this.whiteOccupancy);
+        this.blackPieces = calculateActivePieces(this.blackOccupancy);
         this.EnPassantPawn = builder.EnPassantPawn;
+        this.castlingRights = calculateCastlingRights(this.boardConfig);
+        this.pieceKey = builder.pieceKey != null ? builder.pieceKey : Zobrist.calculatePieceKey(this.boardConfig);
+        this.zobristKey = this.pieceKey ^
+                          Zobrist.sideKey(builder.nextMoveMaker) ^
+                          Zobrist.castlingKey(this.castlingRights) ^
+                          Zobrist.enPassantKey(getEnPassantSquare());
 
-        // Collect all legal moves for white and black pieces
-        final Collection<Move> whiteStandardLegalMoves = calculateLegalMoves(this.whitePieces);
-        final Collection<Move> blackStandardLegalMoves = calculateLegalMoves(this.blackPieces);
-
-        //Each Player has both white and black legal moves
-        this.whitePlayer = new WhitePlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
-        this.blackPlayer = new BlackPlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
+        // Players work out their legal moves and check state when first asked
+        this.whitePlayer = new WhitePlayer(this);
+        this.blackPlayer = new BlackPlayer(this);
 
         // Set the current player to the next player to move
         this.currentPlayer = builder.nextMoveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
@@ -50,7 +68,7 @@ public class Board {
         final StringBuilder builder = new StringBuilder();
 
         for(int i = 0; i< BoardUtils.NUM_TILES; i++){
-            final String tileText = this.gameBoard.get(i).toString();
+            final String tileText = getTile(i).toString();
             builder.append(String.format("%3s", tileText));
 
             if((i + 1) % BoardUtils.NUM_TILES_PER_ROW == 0){
@@ -60,6 +78,47 @@ public class Board {
         return builder.toString();
     }
 
+    @Override
+    public int hashCode(){
+        return Long.hashCode(this.zobristKey);
+    }
+
+    @Override
+    public boolean equals(final Object other){
+        if(this == other){
+            return true;
+        }
+        if(!(other instanceof Board)){
+            return false;
+        }
+        final Board otherBoard = (Board) other;
+        return this.zobristKey == otherBoard.zobristKey &&
+               Arrays.equals(this.pieceBitboards, otherBoard.pieceBitboards) &&
+               this.currentPlayer.getAlliance() == otherBoard.currentPlayer.getAlliance() &&
+               this.castlingRights == otherBoard.castlingRights &&
+               getEnPassantSquare() == otherBoard.getEnPassantSquare();
+    }
+
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    long getPieceKey() {
+        return this.pieceKey;
+    }
+
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    public int getEnPassantSquare() {
+        if(this.EnPassantPawn == null){
+            return BoardUtils.NO_SQUARE;
+        }
+        // the tile the pawn jumped over
+        return this.EnPassantPawn.getPiecePosition() - (8 * this.EnPassantPawn.getPieceAlliance().getDirection());
+    }
+
     public Player whitePlayer() {
         return this.whitePlayer;
     }
@@ -72,6 +131,28 @@ public class Board {
         return this.currentPlayer;
     }
 
+    // Check, checkmate or stalemate of the side to move, escape moves are only searched once per board
+    public GameStatus getGameStatus(){
+        GameStatus gameStatus = this.gameStatus;
+        if(gameStatus == null){
+            gameStatus = calculateGameStatus();
+            this.gameStatus = gameStatus;
+        }
+        return gameStatus;
+    }
+
+    private GameStatus calculateGameStatus(){
+        final boolean isInCheck = this.currentPlayer.isInCheck();
+        final IntMoveList legalMoves = this.currentPlayer.getLegalMoveList();
+
+        for(int i = 0; i < legalMoves.size(); i++){
+            if(!leavesKingInCheck(legalMoves.get(i))){
+                return isInCheck ? GameStatus.CHECK : GameStatus.ONGOING;
+            }
+        }
+        return isInCheck ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+    }
+
     public Pawn getEnPassantPawn() {
         return this.EnPassantPawn;
     }
@@ -88,15 +169,16 @@ public class Board {
         return Iterables.unmodifiableIterable(Iterables.concat(this.whitePieces, this.blackPieces));
     }
 
-    private Collection<Move> calculateLegalMoves(final Collection<Piece> pieces) {
-        final List<Move> legalMoves = new ArrayList<>();
+    private Collection<Piece> calculateActivePieces(final long occupancy) {
+        final List<Piece> activePieces = new ArrayList<>(Long.bitCount(occupancy));
+        long remaining = occupancy;
 
-        for(final Piece piece : pieces){
-            legalMoves.addAll(piece.calculateLegalMoves(this));
+        // Walk the set bits from the lowest tile up, same order as scanning the tiles
+        while(remaining != 0){
+            activePieces.add(this.boardConfig[Long.numberOfTrailingZeros(remaining)]);
+            remaining &= remaining - 1;
         }
-
-        // return a collection of moves from the collection of pieces
-        return Collections.unmodifiableList(legalMoves);
+        return ImmutableList.copyOf(activePieces);
     }
 
     public static Collection<Piece> calculateActivePieces(final List<Tile> gameBoard, final Alliance alliance) {
@@ -118,22 +200,134 @@ public class Board {
 
     public Tile getTile(final int tileCoordinate){
 
-        return this.gameBoard.get(tileCoordinate);
+        return Tile.createTile(tileCoordinate, this.boardConfig[tileCoordinate]);
     }
 
-    public List<Tile> getGameBoard() {
-        return this.gameBoard;
+    public Piece getPiece(final int tileCoordinate){
+        return this.boardConfig[tileCoordinate];
     }
 
-    private static List<Tile> createGameBoard(final Builder builder){
+    public boolean isTileOccupied(final int tileCoordinate){
+        return ((this.whiteOccupancy | this.blackOccupancy) & (1L << tileCoordinate)) != 0;
+    }
+
+    public List<Tile> getGameBoard() {
         final Tile[] tiles = new Tile[BoardUtils.NUM_TILES];
 
         for(int i=0; i<BoardUtils.NUM_TILES; i++){
-            tiles[i] = Tile.createTile(i,builder.BoardConfig.get(i));
+            tiles[i] = getTile(i);
         }
 
         // Return list of 64 tiles (0-63)
-        return Arrays.asList(tiles);
+        return Collections.unmodifiableList(Arrays.asList(tiles));
+    }
+
+    public long getPieceBitboard(final Alliance alliance, final Piece.PieceType pieceType){
+        return this.pieceBitboards[BoardUtils.bitboardIndex(alliance, pieceType)];
+    }
+
+    public long getOccupancy(final Alliance alliance){
+        return alliance.isWhite() ? this.whiteOccupancy : this.blackOccupancy;
+    }
+
+    public long getOccupancy(){
+        return this.whiteOccupancy | this.blackOccupancy;
+    }
+
+    public boolean isSquareAttacked(final int tileCoordinate, final Alliance attacker){
+        return BoardUtils.isSquareAttacked(this.pieceBitboards, getOccupancy(), tileCoordinate, attacker);
+    }
+
+    // Plays the int move on a copy of the bitboards and looks at the mover's king, no board is built
+    public boolean leavesKingInCheck(final int move){
+        final long[] bitboards = this.pieceBitboards.clone();
+        final int from = IntMove.getCurrentCoordinate(move);
+        final int to = IntMove.getDestinationCoordinate(move);
+        final int flag = IntMove.getFlag(move);
+        final int movedPiece = IntMove.getMovedPiece(move);
+        final int capturedPiece = IntMove.getCapturedPiece(move);
+        final Alliance alliance = SearchBoard.getPieceAlliance(movedPiece);
+        final Alliance opponent = alliance.isWhite() ? Alliance.BLACK : Alliance.WHITE;
+
+        if(capturedPiece != BoardUtils.NO_PIECE){
+            final int capturedCoordinate = flag == IntMove.EN_PASSANT ? to - (8 * alliance.getDirection()) : to;
+            bitboards[capturedPiece] &= ~(1L << capturedCoordinate);
+        }
+        bitboards[movedPiece] ^= (1L << from) | (1L << to);
+
+        // the castle rook can shield the king's new square
+        final int rook = BoardUtils.bitboardIndex(alliance, Piece.PieceType.ROOK);
+        if(flag == IntMove.KING_SIDE_CASTLE){
+            bitboards[rook] ^= (1L << (to + 1)) | (1L << (to - 1));
+        }else if(flag == IntMove.QUEEN_SIDE_CASTLE){
+            bitboards[rook] ^= (1L << (to - 2)) | (1L << (to + 1));
+        }
+
+        long occupancy = 0L;
+        for(final long bitboard : bitboards){
+            occupancy |= bitboard;
+        }
+        final long king = bitboards[BoardUtils.bitboardIndex(alliance, Piece.PieceType.KING)];
+        return BoardUtils.isSquareAttacked(bitboards, occupancy, Long.numberOfTrailingZeros(king), opponent);
+    }
+
+    private static Piece[] createBoardConfig(final Builder builder){
+        final Piece[] boardConfig = new Piece[BoardUtils.NUM_TILES];
+
+        for(final Piece piece : builder.BoardConfig.values()){
+            boardConfig[piece.getPiecePosition()] = piece;
+        }
+        return boardConfig;
+    }
+
+    private static long[] createPieceBitboards(final Piece[] boardConfig){
+        final long[] pieceBitboards = new long[BoardUtils.NUM_BITBOARDS];
+
+        for(int i=0; i<BoardUtils.NUM_TILES; i++){
+            final Piece piece = boardConfig[i];
+
+            if(piece != null){
+                pieceBitboards[BoardUtils.bitboardIndex(piece.getPieceAlliance(), piece.getPieceType())] |= 1L << i;
+            }
+        }
+        return pieceBitboards;
+    }
+
+    private static int calculateCastlingRights(final Piece[] boardConfig){
+        int rights = 0;
+
+        if(isCastleReady(boardConfig, BoardUtils.WHITE_KING_START, BoardUtils.WHITE_KING_START + 3, Alliance.WHITE)){
+            rights |= BoardUtils.WHITE_KING_SIDE;
+        }
+        if(isCastleReady(boardConfig, BoardUtils.WHITE_KING_START, BoardUtils.WHITE_KING_START - 4, Alliance.WHITE)){
+            rights |= BoardUtils.WHITE_QUEEN_SIDE;
+        }
+        if(isCastleReady(boardConfig, BoardUtils.BLACK_KING_START, BoardUtils.BLACK_KING_START + 3, Alliance.BLACK)){
+            rights |= BoardUtils.BLACK_KING_SIDE;
+        }
+        if(isCastleReady(boardConfig, BoardUtils.BLACK_KING_START, BoardUtils.BLACK_KING_START - 4, Alliance.BLACK)){
+            rights |= BoardUtils.BLACK_QUEEN_SIDE;
+        }
+        return rights;
+    }
+
+    // King and rook are both still on their starting tiles and have not moved
+    private static boolean isCastleReady(final Piece[] boardConfig, final int kingCoordinate,
+                                         final int rookCoordinate, final Alliance alliance){
+        final Piece king = boardConfig[kingCoordinate];
+        final Piece rook = boardConfig[rookCoordinate];
+
+        return king != null && king.getPieceType().isKing() && king.getPieceAlliance() == alliance && king.isFirstMove() &&
+               rook != null && rook.getPieceType().isRook() && rook.getPieceAlliance() == alliance && rook.isFirstMove();
+    }
+
+    private static long calculateOccupancy(final long[] pieceBitboards, final Alliance alliance){
+        long occupancy = 0L;
+
+        for(final Piece.PieceType pieceType : Piece.PieceType.values()){
+            occupancy |= pieceBitboards[BoardUtils.bitboardIndex(alliance, pieceType)];
+        }
+        return occupancy;
     }
 
     public static Board createStandardBoard(){
@@ -201,6 +395,7 @@ public class Board {
         Map<Integer, Piece> BoardConfig;
         Alliance nextMoveMaker;
         Pawn EnPassantPawn;
+        Long pieceKey;
 
         public Builder(){
 
@@ -224,6 +419,11 @@ public class Board {
         public void setEnPassantPawn(Pawn diagonal) {
             this.EnPassantPawn = diagonal;
         }
+
+        // Set by move execution so the new board does not rehash every tile
+        void setPieceKey(final long pieceKey) {
+            this.pieceKey = pieceKey;
+        }
     }
 
 
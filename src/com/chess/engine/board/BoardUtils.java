@@ -2,6 +2,8 @@
 
 package com.chess.engine.board;
 
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 
@@ -39,6 +41,29 @@ public class BoardUtils {
     public static final int NUM_TILES_PER_ROW = 8;
     public static final int START_TILE_INDEX = 0;
 
+    // bitboard totals, one word per alliance and piece type
+    public static final int NUM_PIECE_TYPES = Piece.PieceType.values().length;
+    public static final int NUM_BITBOARDS = 2 * NUM_PIECE_TYPES;
+    public static final int NO_SQUARE = -1;
+    public static final int NO_PIECE = -1;
+
+    // castling rights, one bit per king and side
+    public static final int WHITE_KING_SIDE = 1;
+    public static final int WHITE_QUEEN_SIDE = 2;
+    public static final int BLACK_KING_SIDE = 4;
+    public static final int BLACK_QUEEN_SIDE = 8;
+    public static final int WHITE_KING_START = 60;
+    public static final int BLACK_KING_START = 4;
+
+    // Step offsets for the knight and king tables
+    static final int[] KNIGHT_OFFSETS = {-17, -15, -10, -6, 6, 10, 15, 17};
+    static final int[] KING_OFFSETS = {-9, -8, -7, -1, 1, 7, 8, 9};
+
+    // Destination bitboards for the non sliding pieces, one lookup per square
+    public static final long[] KNIGHT_ATTACKS = initStepAttacks(KNIGHT_OFFSETS, 2);
+    public static final long[] KING_ATTACKS = initStepAttacks(KING_OFFSETS, 1);
+    public static final long[][] PAWN_ATTACKS = {initPawnAttacks(Alliance.WHITE), initPawnAttacks(Alliance.BLACK)};
+
 
     public static final String[] ALGEBRAIC_NOTATION = initAlgebraicNotation();
     public static final Map<String, Integer> POSITION_TO_COORDINATE = initPositionToCoordinateMap();
@@ -66,6 +91,35 @@ public class BoardUtils {
         return row;
     }
 
+    private static long[] initStepAttacks(final int[] offsets, final int maxColumnDistance) {
+        final long[] attacks = new long[NUM_TILES];
+
+        for (int i = 0; i < NUM_TILES; i++) {
+            for (final int offset : offsets) {
+                if (isValidStep(i, i + offset, maxColumnDistance)) {
+                    attacks[i] |= 1L << (i + offset);
+                }
+            }
+        }
+        return attacks;
+    }
+
+    private static long[] initPawnAttacks(final Alliance alliance) {
+        final long[] attacks = new long[NUM_TILES];
+
+        for (int i = 0; i < NUM_TILES; i++) {
+            final int forward = i + (8 * alliance.getDirection());
+
+            if (isValidStep(i, forward - 1, 1)) {
+                attacks[i] |= 1L << (forward - 1);
+            }
+            if (isValidStep(i, forward + 1, 1)) {
+                attacks[i] |= 1L << (forward + 1);
+            }
+        }
+        return attacks;
+    }
+
     private static Map<String, Integer> initPositionToCoordinateMap() {
         final Map<String, Integer> positionToCoordinate = new HashMap<>();
 
@@ -109,12 +163,57 @@ public class BoardUtils {
 
     }
 
+    public static int bitboardIndex(final Alliance alliance, final Piece.PieceType pieceType) {
+        // White words first, then black, in PieceType order
+        return alliance.ordinal() * NUM_PIECE_TYPES + pieceType.ordinal();
+    }
+
+    // A step stays on the board and does not wrap around to the other side
+    static boolean isValidStep(final int from, final int to, final int maxColumnDistance) {
+        return isValidTileCoordinate(to) && Math.abs((to & 7) - (from & 7)) <= maxColumnDistance;
+    }
+
+    // Looks out from the square for pawn, knight, king and sliding attackers
+    public static boolean isSquareAttacked(final long[] pieceBitboards, final long occupancy,
+                                           final int square, final Alliance attacker) {
+        final int base = bitboardIndex(attacker, Piece.PieceType.PAWN);
+        final long pawns = pieceBitboards[base + Piece.PieceType.PAWN.ordinal()];
+        final long knights = pieceBitboards[base + Piece.PieceType.KNIGHT.ordinal()];
+        final long king = pieceBitboards[base + Piece.PieceType.KING.ordinal()];
+        final long queens = pieceBitboards[base + Piece.PieceType.QUEEN.ordinal()];
+
+        // a pawn of ours on the square would hit exactly the attacker pawns that hit it
+        if ((pawns & PAWN_ATTACKS[1 - attacker.ordinal()][square]) != 0 ||
+                (knights & KNIGHT_ATTACKS[square]) != 0 ||
+                (king & KING_ATTACKS[square]) != 0) {
+            return true;
+        }
+
+        return (bishopAttacks(square, occupancy) &
+                (pieceBitboards[base + Piece.PieceType.BISHOP.ordinal()] | queens)) != 0 ||
+               (rookAttacks(square, occupancy) &
+                (pieceBitboards[base + Piece.PieceType.ROOK.ordinal()] | queens)) != 0;
+    }
+
+    // Sliding piece destinations through the magic tables, blockers are included
+    public static long bishopAttacks(final int tileCoordinate, final long occupancy) {
+        return MagicBitboards.bishopAttacks(tileCoordinate, occupancy);
+    }
+
+    public static long rookAttacks(final int tileCoordinate, final long occupancy) {
+        return MagicBitboards.rookAttacks(tileCoordinate, occupancy);
+    }
+
+    public static long queenAttacks(final int tileCoordinate, final long occupancy) {
+        return MagicBitboards.bishopAttacks(tileCoordinate, occupancy) | MagicBitboards.rookAttacks(tileCoordinate, occupancy);
+    }
+
     public static boolean isThreatenedBoardImmediate(final Board board) {
         return board.whitePlayer().isInCheck() || board.blackPlayer().isInCheck();
     }
 
     public static boolean isEndGame(final Board board){
-        return board.currentPlayer().isInCheckMate() || board.currentPlayer().isInStaleMate();
+        return board.getGameStatus().isGameOver();
     }
 
 
@@ -0,0 +1,56 @@
+package com.chess.engine.board;
+
+// State of the game for the side to move, worked out once per board
+public enum GameStatus {
+    ONGOING {
+        @Override
+        public boolean isInCheck() {
+            return false;
+        }
+
+        @Override
+        public boolean isGameOver() {
+            return false;
+        }
+    },
+
+    CHECK {
+        @Override
+        public boolean isInCheck() {
+            return true;
+        }
+
+        @Override
+        public boolean isGameOver() {
+            return false;
+        }
+    },
+
+    CHECKMATE {
+        @Override
+        public boolean isInCheck() {
+            return true;
+        }
+
+        @Override
+        public boolean isGameOver() {
+            return true;
+        }
+    },
+
+    STALEMATE {
+        @Override
+        public boolean isInCheck() {
+            return false;
+        }
+
+        @Override
+        public boolean isGameOver() {
+            return true;
+        }
+    };
+
+    public abstract boolean isInCheck();
+
+    public abstract boolean isGameOver();
+}
@@ -0,0 +1,99 @@
+/* PACKED INT ENCODING FOR MOVES */
+
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece;
+
+public final class IntMove {
+
+    // move flags
+    public static final int QUIET = 0;
+    public static final int PAWN_JUMP = 1;
+    public static final int KING_SIDE_CASTLE = 2;
+    public static final int QUEEN_SIDE_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int PROMOTION = 8;
+
+    // never generated, a8 to a8
+    public static final int NULL_MOVE = 0;
+
+    // bit layout: from 0-5, to 6-11, moved piece 12-15, captured piece 16-19, flag 20-23
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int PIECE_MASK = 0xF;
+
+    private IntMove() {
+        throw new RuntimeException("YOU CANT DO THAT");
+    }
+
+    public static int create(final int currentCoordinate, final int destinationCoordinate,
+                             final int movedPiece, final int capturedPiece, final int flag) {
+        return currentCoordinate |
+               (destinationCoordinate << 6) |
+               (movedPiece << 12) |
+               ((capturedPiece & PIECE_MASK) << 16) |
+               (flag << 20);
+    }
+
+    // Encodes a move object, used where moves come in through the GUI/API
+    public static int create(final Move move) {
+        final Piece attackedPiece = move.getAttackedPiece();
+        int flag = QUIET;
+
+        if (move instanceof Move.PawnPromotion) {
+            flag = PROMOTION | (move.isAttack() ? CAPTURE : QUIET);
+        } else if (move instanceof Move.EnPassantMove) {
+            flag = EN_PASSANT;
+        } else if (move instanceof Move.PawnJump) {
+            flag = PAWN_JUMP;
+        } else if (move.isCastlingMove()) {
+            flag = move.getDestinationCoordinate() > move.getCurrentCoordinate() ? KING_SIDE_CASTLE : QUEEN_SIDE_CASTLE;
+        } else if (move.isAttack()) {
+            flag = CAPTURE;
+        }
+        return create(move.getCurrentCoordinate(), move.getDestinationCoordinate(),
+                      move.getMovedPiece().getPieceCode(),
+                      attackedPiece != null ? attackedPiece.getPieceCode() : BoardUtils.NO_PIECE,
+                      flag);
+    }
+
+    public static int getCurrentCoordinate(final int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int getDestinationCoordinate(final int move) {
+        return (move >>> 6) & SQUARE_MASK;
+    }
+
+    public static int getMovedPiece(final int move) {
+        return (move >>> 12) & PIECE_MASK;
+    }
+
+    public static int getCapturedPiece(final int move) {
+        final int capturedPiece = (move >>> 16) & PIECE_MASK;
+        return capturedPiece == PIECE_MASK ? BoardUtils.NO_PIECE : capturedPiece;
+    }
+
+    public static int getFlag(final int move) {
+        return (move >>> 20) & 0xF;
+    }
+
+    public static boolean isAttack(final int move) {
+        return (getFlag(move) & CAPTURE) != 0;
+    }
+
+    public static boolean isPromotion(final int move) {
+        return (getFlag(move) & PROMOTION) != 0;
+    }
+
+    public static boolean isCastlingMove(final int move) {
+        final int flag = getFlag(move);
+        return flag == KING_SIDE_CASTLE || flag == QUEEN_SIDE_CASTLE;
+    }
+
+    public static String toString(final int move) {
+        return BoardUtils.getPositionAtCoordinate(getCurrentCoordinate(move)) +
+               BoardUtils.getPositionAtCoordinate(getDestinationCoordinate(move)) +
+               (isPromotion(move) ? "q" : "");
+    }
+}
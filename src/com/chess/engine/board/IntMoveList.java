@@ -0,0 +1,86 @@
+/* REUSABLE BUFFER OF INT ENCODED MOVES */
+
+package com.chess.engine.board;
+
+import java.util.Arrays;
+
+public final class IntMoveList {
+
+    // more than any legal chess position can generate
+    public static final int MAX_MOVES = 256;
+
+    private int[] moves;
+    private int size;
+
+    public IntMoveList() {
+        this(MAX_MOVES);
+    }
+
+    public IntMoveList(final int capacity) {
+        this.moves = new int[capacity];
+        this.size = 0;
+    }
+
+    public IntMoveList(final IntMoveList other) {
+        this.moves = Arrays.copyOf(other.moves, Math.max(other.size, MAX_MOVES));
+        this.size = other.size;
+    }
+
+    public void add(final int move) {
+        if (this.size == this.moves.length) {
+            this.moves = Arrays.copyOf(this.moves, this.moves.length * 2);
+        }
+        this.moves[this.size++] = move;
+    }
+
+    public void addAll(final IntMoveList other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.moves[i]);
+        }
+    }
+
+    public int get(final int index) {
+        return this.moves[index];
+    }
+
+    public void set(final int index, final int move) {
+        this.moves[index] = move;
+    }
+
+    public void swap(final int first, final int second) {
+        final int move = this.moves[first];
+        this.moves[first] = this.moves[second];
+        this.moves[second] = move;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    public boolean contains(final int move) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+
+        for (int i = 0; i < this.size; i++) {
+            builder.append(i == 0 ? "" : ", ").append(IntMove.toString(this.moves[i]));
+        }
+        return builder.append("]").toString();
+    }
+}
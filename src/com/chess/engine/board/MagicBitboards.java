@@ -0,0 +1,144 @@
+/* MAGIC BITBOARD LOOKUP FOR SLIDING PIECE ATTACKS */
+
+package com.chess.engine.board;
+
+final class MagicBitboards {
+
+    private static final int[][] BISHOP_DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+    private static final int[][] ROOK_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+    // Found once with a random search over sparse candidates, checked again when the tables are built
+    private static final long[] BISHOP_MAGICS = {
+            0x0014410409021200L, 0x0010028802418310L, 0x0008009902000003L, 0x0042408100002400L,
+            0x0882021000480386L, 0x0E0E882108080000L, 0x6000460820284005L, 0x0060440244302410L,
+            0x8020489004080050L, 0x4000600404084044L, 0x000021010C008090L, 0xC200840400844089L,
+            0x1118020210000000L, 0x0004122844402000L, 0x0020004402201088L, 0x0400008400821095L,
+            0x2022804084042080L, 0x0008101081080080L, 0x0850081801821210L, 0x00020114401100A0L,
+            0x481C010206110002L, 0x0211002080414000L, 0x8830409082082008L, 0x8420A00142180480L,
+            0x0164900041101104L, 0x080804100810A082L, 0x1742410010011200L, 0x0240041002020008L,
+            0x2000404004010053L, 0x0030010000804100L, 0x0029120802480440L, 0x0102002520840110L,
+            0x40010840000A1000L, 0x20014C2011500902L, 0x300018040C080040L, 0x4150420080580080L,
+            0x8104010400020082L, 0x0010008020020200L, 0x0002180462110400L, 0x0401021428020508L,
+            0x0A2208020A524001L, 0x0000820121001050L, 0x0000A015D0000800L, 0x0163046018000300L,
+            0x0008100210100205L, 0x8101300100400600L, 0x4002044902000415L, 0x2024008208404201L,
+            0x11022A0220040000L, 0xA0409048021008D0L, 0x0080010401042000L, 0x0100004820880080L,
+            0x0084141282020004L, 0x2500410811044300L, 0x2020081041004100L, 0x4020040122002410L,
+            0x0010852090142000L, 0x00222140580C5008L, 0x100000011260D020L, 0x1000004123209814L,
+            0x1086000250C20880L, 0x0800100820481228L, 0x020140041410D204L, 0x0410101001044D12L
+    };
+
+    private static final long[] ROOK_MAGICS = {
+            0x0080102080004000L, 0x4140200190004003L, 0x0200108200200840L, 0x2480080010000481L,
+            0x0480040048008002L, 0x0200020090211418L, 0x4400081044210082L, 0x0100008056012700L,
+            0x08A0800090204000L, 0x008A4000A0100340L, 0x8010802000100080L, 0x0002004012000822L,
+            0xA105000800041100L, 0x0002000200080410L, 0x0104000842501C49L, 0x150A0005008E0044L,
+            0x0101828000400020L, 0x0011010020400080L, 0x0010008020008018L, 0x0C00808008001000L,
+            0x0000110008010004L, 0x4082008004000280L, 0x0080040010080102L, 0x0080020000910044L,
+            0x4002208180004000L, 0x8000400080200088L, 0x0890080020040020L, 0x0450040040080040L,
+            0xA004008180240800L, 0x2400020080040080L, 0x0006000200080401L, 0x0800508A000404C1L,
+            0x0080804004800022L, 0x1120400089002100L, 0x0400402001001108L, 0x2000100080800801L,
+            0x0000080080800400L, 0x0600800400800200L, 0x4012000812001431L, 0x10001C4102000084L,
+            0x0040004080298000L, 0x0400400020008080L, 0x4020001900410020L, 0x204C100021010008L,
+            0x8006000420120009L, 0x100A000810020004L, 0x2000020110040008L, 0x1000011040820004L,
+            0x0000800021044300L, 0x0101020020805600L, 0x6000100020008080L, 0x1010801000080080L,
+            0x0001001006080100L, 0x0000800400020080L, 0x0084019002080400L, 0x0088204084011200L,
+            0x4101088240102202L, 0x0101001080400021L, 0xC802008010082042L, 0x00C1090410002101L,
+            0x0011001002040801L, 0x9025000248240081L, 0x0420481508821004L, 0x084008240041088AL
+    };
+
+    private static final long[] BISHOP_MASKS = new long[BoardUtils.NUM_TILES];
+    private static final int[] BISHOP_SHIFTS = new int[BoardUtils.NUM_TILES];
+    private static final long[][] BISHOP_ATTACKS = new long[BoardUtils.NUM_TILES][];
+
+    private static final long[] ROOK_MASKS = new long[BoardUtils.NUM_TILES];
+    private static final int[] ROOK_SHIFTS = new int[BoardUtils.NUM_TILES];
+    private static final long[][] ROOK_ATTACKS = new long[BoardUtils.NUM_TILES][];
+
+    static {
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            initSquare(i, BISHOP_DIRECTIONS, BISHOP_MAGICS[i], BISHOP_MASKS, BISHOP_SHIFTS, BISHOP_ATTACKS);
+            initSquare(i, ROOK_DIRECTIONS, ROOK_MAGICS[i], ROOK_MASKS, ROOK_SHIFTS, ROOK_ATTACKS);
+        }
+    }
+
+    private MagicBitboards() {
+        throw new RuntimeException("YOU CANT DO THAT");
+    }
+
+    static long bishopAttacks(final int square, final long occupancy) {
+        return BISHOP_ATTACKS[square][(int) (((occupancy & BISHOP_MASKS[square]) * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square])];
+    }
+
+    static long rookAttacks(final int square, final long occupancy) {
+        return ROOK_ATTACKS[square][(int) (((occupancy & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square])];
+    }
+
+    // Fills the attack entry of every blocker subset of the mask under the square's magic
+    private static void initSquare(final int square, final int[][] directions, final long magic,
+                                   final long[] masks, final int[] shifts, final long[][] attacks) {
+        final long mask = calculateMask(square, directions);
+        final int bits = Long.bitCount(mask);
+        final long[] table = new long[1 << bits];
+        final boolean[] isFilled = new boolean[table.length];
+
+        // walk every subset of the mask
+        long blockers = 0L;
+        do {
+            final int index = (int) ((blockers * magic) >>> (64 - bits));
+            final long slowAttacks = calculateAttacks(square, blockers, directions);
+
+            if (isFilled[index] && table[index] != slowAttacks) {
+                throw new RuntimeException("BAD MAGIC FOR TILE " + square);
+            }
+            isFilled[index] = true;
+            table[index] = slowAttacks;
+            blockers = (blockers - mask) & mask;
+        } while (blockers != 0);
+
+        masks[square] = mask;
+        shifts[square] = 64 - bits;
+        attacks[square] = table;
+    }
+
+    // Squares whose blockers change the attack set, the last square of each ray never does
+    private static long calculateMask(final int square, final int[][] directions) {
+        long mask = 0L;
+
+        for (final int[] direction : directions) {
+            int row = square / BoardUtils.NUM_TILES_PER_ROW + direction[0];
+            int column = square % BoardUtils.NUM_TILES_PER_ROW + direction[1];
+
+            while (isOnBoard(row + direction[0], column + direction[1])) {
+                mask |= 1L << (row * BoardUtils.NUM_TILES_PER_ROW + column);
+                row += direction[0];
+                column += direction[1];
+            }
+        }
+        return mask;
+    }
+
+    private static long calculateAttacks(final int square, final long occupancy, final int[][] directions) {
+        long attacks = 0L;
+
+        for (final int[] direction : directions) {
+            int row = square / BoardUtils.NUM_TILES_PER_ROW + direction[0];
+            int column = square % BoardUtils.NUM_TILES_PER_ROW + direction[1];
+
+            while (isOnBoard(row, column)) {
+                final long bit = 1L << (row * BoardUtils.NUM_TILES_PER_ROW + column);
+                attacks |= bit;
+
+                if ((occupancy & bit) != 0) {
+                    break;
+                }
+                row += direction[0];
+                column += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    private static boolean isOnBoard(final int row, final int column) {
+        return row >= 0 && row < BoardUtils.NUM_TILES_PER_ROW && column >= 0 && column < BoardUtils.NUM_TILES_PER_ROW;
+    }
+}
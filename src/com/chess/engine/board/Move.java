@@ -6,6 +6,10 @@ import com.chess.engine.pieces.Pawn;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.pieces.Rook;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import static com.chess.engine.board.Board.*;
 
 public abstract class Move {
@@ -93,11 +97,24 @@ public abstract class Move {
         }
         builder.setPiece(this.movedPiece.move_Piece(this));
         builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+        builder.setPieceKey(calculatePieceKey());
 
         // build a new board
         return builder.build();
     }
 
+    // Zobrist piece key of the board after this move, updated from the current board's key
+    long calculatePieceKey() {
+        long pieceKey = this.board.getPieceKey() ^
+                        Zobrist.pieceKey(this.movedPiece, this.movedPiece.getPiecePosition()) ^
+                        Zobrist.pieceKey(this.movedPiece, this.destinationCoordinate);
+
+        if (isAttack()) {
+            pieceKey ^= Zobrist.pieceKey(getAttackedPiece(), getAttackedPiece().getPiecePosition());
+        }
+        return pieceKey;
+    }
+
     public int getCurrentCoordinate() {
         return this.movedPiece.getPiecePosition();
     }
@@ -242,6 +259,7 @@ public abstract class Move {
             }
             builder.setPiece(this.movedPiece.move_Piece(this));
             builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+            builder.setPieceKey(calculatePieceKey());
             return builder.build();
         }
     }
@@ -270,6 +288,7 @@ public abstract class Move {
             builder.setPiece(jumpPawn);
             builder.setEnPassantPawn(jumpPawn);
             builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+            builder.setPieceKey(calculatePieceKey());
             return builder.build();
 
         }
@@ -315,8 +334,12 @@ public abstract class Move {
                 builder.setPiece(piece);
             }
 
-            builder.setPiece(this.promotedPawn.getPromotionPiece().move_Piece(this));
+            final Piece promotionPiece = this.promotedPawn.getPromotionPiece().move_Piece(this);
+            builder.setPiece(promotionPiece);
             builder.setMoveMaker(pawnMovedBoard.currentPlayer().getAlliance());
+            builder.setPieceKey(pawnMovedBoard.getPieceKey() ^
+                                Zobrist.pieceKey(this.promotedPawn, this.destinationCoordinate) ^
+                                Zobrist.pieceKey(promotionPiece, this.destinationCoordinate));
             return builder.build();
         }
 
@@ -380,9 +403,17 @@ public abstract class Move {
             builder.setPiece(this.movedPiece.move_Piece(this));
             builder.setPiece(new Rook(this.castleRookDestination, this.castleRook.getPieceAlliance()));
             builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+            builder.setPieceKey(calculatePieceKey());
             return builder.build();
         }
 
+        @Override
+        long calculatePieceKey() {
+            return super.calculatePieceKey() ^
+                   Zobrist.pieceKey(this.castleRook, this.castleRookStart) ^
+                   Zobrist.pieceKey(this.castleRook, this.castleRookDestination);
+        }
+
         @Override
         public int hashCode() {
             int result = super.hashCode();
@@ -447,13 +478,24 @@ public abstract class Move {
 
         // Null move for invalid moves
         public static final class NullMove extends Move {
-            private NullMove() {
-                super(null, 65);
+            private NullMove(final Board board) {
+                super(board, 65);
             }
 
+            // Passes the turn, nothing moves and the en passant pawn can no longer be taken
             @Override
             public Board execute() {
-                throw new RuntimeException("NULL MOVE");
+                if (this.board == null) {
+                    throw new RuntimeException("NULL MOVE");
+                }
+                final Builder builder = new Builder();
+
+                for (final Piece piece : this.board.getAllPieces()) {
+                    builder.setPiece(piece);
+                }
+                builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+                builder.setPieceKey(this.board.getPieceKey());
+                return builder.build();
             }
 
             @Override
@@ -464,7 +506,8 @@ public abstract class Move {
 
         public static class MoveFactory {
 
-        private static final Move NULL_MOVE = new NullMove();
+        // no board, only marks a missing move
+        private static final Move NULL_MOVE = new NullMove(null);
 
             private MoveFactory() {
 
@@ -475,17 +518,70 @@ public abstract class Move {
                 return NULL_MOVE;
             }
 
+            // A null move that can be executed on the board
+            public static Move createNullMove(final Board board) {
+                return new NullMove(board);
+            }
+
             public static Move createMove(final Board board, final int currentCoordinate, final int destinationCoordinate) {
-                for (final Move move : board.getAllLegalMoves()) {
+                final Move move = findMove(board.whitePlayer().getLegalMoveList(), board, currentCoordinate, destinationCoordinate);
+                return move != NULL_MOVE ? move : findMove(board.blackPlayer().getLegalMoveList(), board, currentCoordinate, destinationCoordinate);
+            }
 
-                    if (move.getCurrentCoordinate() == currentCoordinate && move.getDestinationCoordinate() == destinationCoordinate) {
-                        return move;
+            private static Move findMove(final IntMoveList moves, final Board board, final int currentCoordinate, final int destinationCoordinate) {
+                for (int i = 0; i < moves.size(); i++) {
+                    final int move = moves.get(i);
+
+                    if (IntMove.getCurrentCoordinate(move) == currentCoordinate && IntMove.getDestinationCoordinate(move) == destinationCoordinate) {
+                        return createMove(board, move);
 
                     }
                 }
                 return NULL_MOVE;
             }
 
+            // Decodes an int move into the matching move object for this board
+            public static Move createMove(final Board board, final int move) {
+                final int currentCoordinate = IntMove.getCurrentCoordinate(move);
+                final int destinationCoordinate = IntMove.getDestinationCoordinate(move);
+                final Piece movedPiece = board.getPiece(currentCoordinate);
+
+                switch (IntMove.getFlag(move)) {
+                    case IntMove.PAWN_JUMP:
+                        return new PawnJump(board, movedPiece, destinationCoordinate);
+                    case IntMove.EN_PASSANT:
+                        return new EnPassantMove(board, movedPiece, destinationCoordinate, board.getEnPassantPawn());
+                    case IntMove.PROMOTION:
+                        return new PawnPromotion(new PawnMove(board, movedPiece, destinationCoordinate));
+                    case IntMove.PROMOTION | IntMove.CAPTURE:
+                        return new PawnPromotion(new PawnAttackMove(board, movedPiece, destinationCoordinate,
+                                                                    board.getPiece(destinationCoordinate)));
+                    case IntMove.KING_SIDE_CASTLE:
+                        return new KingSideCastleMove(board, movedPiece, destinationCoordinate,
+                                (Rook) board.getPiece(destinationCoordinate + 1), destinationCoordinate + 1, destinationCoordinate - 1);
+                    case IntMove.QUEEN_SIDE_CASTLE:
+                        return new QueenSideCastleMove(board, movedPiece, destinationCoordinate,
+                                (Rook) board.getPiece(destinationCoordinate - 2), destinationCoordinate - 2, destinationCoordinate + 1);
+                    case IntMove.CAPTURE:
+                        return movedPiece.getPieceType() == Piece.PieceType.PAWN ?
+                                new PawnAttackMove(board, movedPiece, destinationCoordinate, board.getPiece(destinationCoordinate)) :
+                                new MajorAttackMove(board, movedPiece, destinationCoordinate, board.getPiece(destinationCoordinate));
+                    default:
+                        return movedPiece.getPieceType() == Piece.PieceType.PAWN ?
+                                new PawnMove(board, movedPiece, destinationCoordinate) :
+                                new MajorMove(board, movedPiece, destinationCoordinate);
+                }
+            }
+
+            public static List<Move> createMoves(final Board board, final IntMoveList moves) {
+                final List<Move> moveObjects = new ArrayList<>(moves.size());
+
+                for (int i = 0; i < moves.size(); i++) {
+                    moveObjects.add(createMove(board, moves.get(i)));
+                }
+                return Collections.unmodifiableList(moveObjects);
+            }
+
         }
 
     }
@@ -0,0 +1,181 @@
+/* PERFT, COUNTS THE LEAF NODES OF THE LEGAL MOVE TREE TO A FIXED DEPTH */
+
+package com.chess.engine.board;
+
+import com.chess.engine.player.MoveTransition;
+import com.chess.engine.player.Player;
+import com.chess.pgn.fenUtilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public final class Perft {
+
+    private static final String START_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private final ForkJoinPool pool;
+    private final PerftTable table;
+
+    // hashMegabytes of 0 turns the position hash off
+    public Perft(final int threads, final int hashMegabytes) {
+        this.pool = new ForkJoinPool(threads);
+        this.table = hashMegabytes > 0 ? new PerftTable(hashMegabytes) : null;
+    }
+
+    public long perft(final Board board, final int depth) {
+        // the root alone is the only node at depth 0
+        if (depth <= 0) {
+            return 1;
+        }
+        long nodes = 0;
+
+        for (final long count : divide(board, depth).values()) {
+            nodes += count;
+        }
+        return nodes;
+    }
+
+    // Node count under each legal root move, the root moves are split across the pool.
+    // At depth 0 no root move is played, so the map is empty
+    public Map<String, Long> divide(final Board board, final int depth) {
+        if (depth <= 0) {
+            return new LinkedHashMap<>();
+        }
+        final Player player = board.currentPlayer();
+        final IntMoveList moves = player.getLegalMoveList();
+        final List<String> rootMoves = new ArrayList<>();
+        final List<ForkJoinTask<Long>> tasks = new ArrayList<>();
+
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moves.get(i);
+            final MoveTransition transition = player.makeMove(Move.MoveFactory.createMove(board, move));
+
+            if (transition.getMoveStatus().isDone()) {
+                rootMoves.add(IntMove.toString(move));
+                tasks.add(this.pool.submit(() -> countNodes(transition.getToBoard(), depth - 1)));
+            }
+        }
+
+        final Map<String, Long> divide = new LinkedHashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            divide.put(rootMoves.get(i), tasks.get(i).join());
+        }
+        return divide;
+    }
+
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    private long countNodes(final Board board, final int depth) {
+        if (depth <= 0) {
+            return 1;
+        }
+        final Player player = board.currentPlayer();
+        final IntMoveList moves = player.getLegalMoveList();
+
+        // bulk count, the last ply only needs each move's legality
+        if (depth == 1) {
+            long nodes = 0;
+            for (int i = 0; i < moves.size(); i++) {
+                if (!board.leavesKingInCheck(moves.get(i))) {
+                    nodes++;
+                }
+            }
+            return nodes;
+        }
+
+        final boolean isHashed = this.table != null && depth <= PerftTable.MAX_DEPTH;
+        if (isHashed) {
+            final long nodes = this.table.probe(board.getZobristKey(), depth);
+            if (nodes >= 0) {
+                return nodes;
+            }
+        }
+
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            final MoveTransition transition = player.makeMove(Move.MoveFactory.createMove(board, moves.get(i)));
+
+            if (transition.getMoveStatus().isDone()) {
+                nodes += countNodes(transition.getToBoard(), depth - 1);
+            }
+        }
+
+        if (isHashed) {
+            this.table.store(board.getZobristKey(), depth, nodes);
+        }
+        return nodes;
+    }
+
+    // Usage: Perft depth [threads] [hashMegabytes] [fen]
+    public static void main(final String[] args) {
+        final int depth = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        final int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        final int hashMegabytes = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        final String fen = args.length > 3 ? String.join(" ", Arrays.copyOfRange(args, 3, args.length)) : START_FEN;
+
+        final Perft perft = new Perft(threads, hashMegabytes);
+        final long startTime = System.nanoTime();
+        final Map<String, Long> divide = perft.divide(fenUtilities.createGameFromFEN(fen), depth);
+        final long executionTime = Math.max(System.nanoTime() - startTime, 1);
+        perft.shutdown();
+
+        long nodes = 0;
+        for (final Map.Entry<String, Long> entry : divide.entrySet()) {
+            System.out.println(entry.getKey() + ": " + entry.getValue());
+            nodes += entry.getValue();
+        }
+        System.out.printf("%nMoves: %d%nNodes: %d%nTime: %d ms%nNPS: %d%n", divide.size(), nodes,
+                          executionTime / 1000000, nodes * 1000000000L / executionTime);
+    }
+
+    // Shared between the worker threads, a torn entry fails the XOR check and is searched again
+    private static final class PerftTable {
+
+        // deeper nodes are counted without the table
+        static final int MAX_DEPTH = 63;
+        private static final long[] DEPTH_KEYS = initDepthKeys();
+
+        private final long[] keys;
+        private final long[] counts;
+        private final int mask;
+
+        PerftTable(final int megabytes) {
+            final int entries = Integer.highestOneBit((int) Math.min((megabytes * 1024L * 1024L) / 16, 1 << 30));
+            this.keys = new long[entries];
+            this.counts = new long[entries];
+            this.mask = entries - 1;
+        }
+
+        long probe(final long zobristKey, final int depth) {
+            final long key = zobristKey ^ DEPTH_KEYS[depth];
+            final int index = (int) key & this.mask;
+            final long count = this.counts[index];
+            return (this.keys[index] ^ count) == key ? count : -1;
+        }
+
+        void store(final long zobristKey, final int depth, final long count) {
+            final long key = zobristKey ^ DEPTH_KEYS[depth];
+            final int index = (int) key & this.mask;
+            this.keys[index] = key ^ count;
+            this.counts[index] = count;
+        }
+
+        private static long[] initDepthKeys() {
+            final Random random = new Random(0xDEADBEEFL);
+            final long[] depthKeys = new long[MAX_DEPTH + 1];
+
+            for (int i = 0; i < depthKeys.length; i++) {
+                depthKeys[i] = random.nextLong();
+            }
+            return depthKeys;
+        }
+    }
+}
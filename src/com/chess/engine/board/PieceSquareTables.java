@@ -0,0 +1,147 @@
+/* MATERIAL AND PIECE SQUARE TABLES FOR THE MIDDLEGAME AND THE ENDGAME */
+
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public final class PieceSquareTables {
+
+    // knights and bishops count 1, rooks 2 and queens 4, the full starting army is 24
+    public static final int MAX_PHASE = 24;
+    private static final int[] PHASE_WEIGHTS = {0, 1, 2, 1, 4, 0};
+
+    // tables read from white's side, a8 first, black looks them up mirrored
+    private static final int[] PAWN_MIDDLEGAME = {
+              0,   0,   0,   0,   0,   0,   0,   0,
+             50,  50,  50,  50,  50,  50,  50,  50,
+             10,  10,  20,  30,  30,  20,  10,  10,
+              5,   5,  10,  25,  25,  10,   5,   5,
+              0,   0,   0,  20,  20,   0,   0,   0,
+              5,  -5, -10,   0,   0, -10,  -5,   5,
+              5,  10,  10, -20, -20,  10,  10,   5,
+              0,   0,   0,   0,   0,   0,   0,   0
+    };
+
+    private static final int[] PAWN_ENDGAME = {
+              0,   0,   0,   0,   0,   0,   0,   0,
+             80,  80,  80,  80,  80,  80,  80,  80,
+             50,  50,  50,  50,  50,  50,  50,  50,
+             30,  30,  30,  30,  30,  30,  30,  30,
+             15,  15,  15,  15,  15,  15,  15,  15,
+              5,   5,   5,   5,   5,   5,   5,   5,
+              0,   0,   0,   0,   0,   0,   0,   0,
+              0,   0,   0,   0,   0,   0,   0,   0
+    };
+
+    private static final int[] KNIGHT = {
+            -50, -40, -30, -30, -30, -30, -40, -50,
+            -40, -20,   0,   0,   0,   0, -20, -40,
+            -30,   0,  10,  15,  15,  10,   0, -30,
+            -30,   5,  15,  20,  20,  15,   5, -30,
+            -30,   0,  15,  20,  20,  15,   0, -30,
+            -30,   5,  10,  15,  15,  10,   5, -30,
+            -40, -20,   0,   5,   5,   0, -20, -40,
+            -50, -40, -30, -30, -30, -30, -40, -50
+    };
+
+    private static final int[] ROOK = {
+              0,   0,   0,   0,   0,   0,   0,   0,
+              5,  10,  10,  10,  10,  10,  10,   5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+              0,   0,   0,   5,   5,   0,   0,   0
+    };
+
+    private static final int[] BISHOP = {
+            -20, -10, -10, -10, -10, -10, -10, -20,
+            -10,   0,   0,   0,   0,   0,   0, -10,
+            -10,   0,   5,  10,  10,   5,   0, -10,
+            -10,   5,   5,  10,  10,   5,   5, -10,
+            -10,   0,  10,  10,  10,  10,   0, -10,
+            -10,  10,  10,  10,  10,  10,  10, -10,
+            -10,   5,   0,   0,   0,   0,   5, -10,
+            -20, -10, -10, -10, -10, -10, -10, -20
+    };
+
+    private static final int[] QUEEN = {
+            -20, -10, -10,  -5,  -5, -10, -10, -20,
+            -10,   0,   0,   0,   0,   0,   0, -10,
+            -10,   0,   5,   5,   5,   5,   0, -10,
+             -5,   0,   5,   5,   5,   5,   0,  -5,
+              0,   0,   5,   5,   5,   5,   0,  -5,
+            -10,   5,   5,   5,   5,   5,   0, -10,
+            -10,   0,   5,   0,   0,   0,   0, -10,
+            -20, -10, -10,  -5,  -5, -10, -10, -20
+    };
+
+    private static final int[] KING_MIDDLEGAME = {
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -20, -30, -30, -40, -40, -30, -30, -20,
+            -10, -20, -20, -20, -20, -20, -20, -10,
+             20,  20,   0,   0,   0,   0,  20,  20,
+             20,  30,  10,   0,   0,  10,  30,  20
+    };
+
+    private static final int[] KING_ENDGAME = {
+            -50, -40, -30, -20, -20, -30, -40, -50,
+            -30, -20, -10,   0,   0, -10, -20, -30,
+            -30, -10,  20,  30,  30,  20, -10, -30,
+            -30, -10,  30,  40,  40,  30, -10, -30,
+            -30, -10,  30,  40,  40,  30, -10, -30,
+            -30, -10,  20,  30,  30,  20, -10, -30,
+            -30, -30,   0,   0,   0,   0, -30, -30,
+            -50, -30, -30, -30, -30, -30, -30, -50
+    };
+
+    // indexed by piece code then square, material included, black entries negated
+    private static final int[][] MIDDLEGAME = initScores(PAWN_MIDDLEGAME, KING_MIDDLEGAME);
+    private static final int[][] ENDGAME = initScores(PAWN_ENDGAME, KING_ENDGAME);
+
+    private PieceSquareTables() {
+        throw new RuntimeException("YOU CANT DO THAT");
+    }
+
+    // White relative middlegame score of a piece standing on the square
+    public static int middlegame(final int pieceCode, final int coordinate) {
+        return MIDDLEGAME[pieceCode][coordinate];
+    }
+
+    // White relative endgame score of a piece standing on the square
+    public static int endgame(final int pieceCode, final int coordinate) {
+        return ENDGAME[pieceCode][coordinate];
+    }
+
+    public static int phase(final int pieceCode) {
+        return PHASE_WEIGHTS[pieceCode % BoardUtils.NUM_PIECE_TYPES];
+    }
+
+    // Blends the two scores, a full board is pure middlegame and bare kings pure endgame
+    public static int taper(final int middlegameScore, final int endgameScore, final int phase) {
+        final int middlegamePhase = Math.min(phase, MAX_PHASE);
+        return (middlegameScore * middlegamePhase + endgameScore * (MAX_PHASE - middlegamePhase)) / MAX_PHASE;
+    }
+
+    private static int[][] initScores(final int[] pawnTable, final int[] kingTable) {
+        final int[][] tables = {pawnTable, KNIGHT, ROOK, BISHOP, QUEEN, kingTable};
+        final int[][] scores = new int[BoardUtils.NUM_BITBOARDS][BoardUtils.NUM_TILES];
+
+        for (final PieceType pieceType : PieceType.values()) {
+            // both sides always have a king, its value would only cancel out
+            final int material = pieceType == PieceType.KING ? 0 : pieceType.getPieceValue();
+            final int[] table = tables[pieceType.ordinal()];
+
+            for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+                scores[BoardUtils.bitboardIndex(Alliance.WHITE, pieceType)][i] = material + table[i];
+                scores[BoardUtils.bitboardIndex(Alliance.BLACK, pieceType)][i] = -(material + table[i ^ 56]);
+            }
+        }
+        return scores;
+    }
+}
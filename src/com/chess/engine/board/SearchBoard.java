@@ -0,0 +1,502 @@
+/* MUTABLE BOARD FOR SEARCHING, MOVES ARE MADE AND UNMADE IN PLACE */
+
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import static com.chess.engine.board.BoardUtils.*;
+import static com.chess.engine.board.IntMove.*;
+
+public final class SearchBoard {
+
+    // undo history length
+    public static final int MAX_HISTORY = 1024;
+
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final int[] CASTLING_RIGHTS_MASK = initCastlingRightsMask();
+
+    private final long[] pieceBitboards;
+    private final long[] occupancy;
+    private final int[] boardConfig;
+    private Alliance sideToMove;
+    private int castlingRights;
+    private int enPassantSquare;
+    private long zobristKey;
+    private long pawnKey;
+
+    // material and piece squares, kept up to date as pieces come and go
+    private int middlegameScore;
+    private int endgameScore;
+    private int phase;
+
+    // undo records, one entry per move made
+    private final int[] undoMove;
+    private final int[] undoCastlingRights;
+    private final int[] undoEnPassantSquare;
+    private final long[] undoZobristKey;
+    private int historyLength;
+
+    private final IntMoveList scratchMoves;
+
+    public SearchBoard(final Board board) {
+        this.pieceBitboards = new long[BoardUtils.NUM_BITBOARDS];
+        this.occupancy = new long[2];
+        this.boardConfig = new int[BoardUtils.NUM_TILES];
+        this.undoMove = new int[MAX_HISTORY];
+        this.undoCastlingRights = new int[MAX_HISTORY];
+        this.undoEnPassantSquare = new int[MAX_HISTORY];
+        this.undoZobristKey = new long[MAX_HISTORY];
+        this.scratchMoves = new IntMoveList();
+
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            final Piece piece = board.getPiece(i);
+            this.boardConfig[i] = NO_PIECE;
+
+            if (piece != null) {
+                addPiece(i, piece.getPieceCode());
+            }
+        }
+        this.sideToMove = board.currentPlayer().getAlliance();
+        this.castlingRights = board.getCastlingRights();
+        this.enPassantSquare = board.getEnPassantSquare();
+        this.zobristKey ^= Zobrist.sideKey(this.sideToMove) ^
+                           Zobrist.castlingKey(this.castlingRights) ^
+                           Zobrist.enPassantKey(this.enPassantSquare);
+        this.historyLength = 0;
+    }
+
+    // Copies the current position without its undo history, for a search on another thread
+    public SearchBoard(final SearchBoard other) {
+        this.pieceBitboards = other.pieceBitboards.clone();
+        this.occupancy = other.occupancy.clone();
+        this.boardConfig = other.boardConfig.clone();
+        this.undoMove = new int[MAX_HISTORY];
+        this.undoCastlingRights = new int[MAX_HISTORY];
+        this.undoEnPassantSquare = new int[MAX_HISTORY];
+        this.undoZobristKey = new long[MAX_HISTORY];
+        this.scratchMoves = new IntMoveList();
+        this.sideToMove = other.sideToMove;
+        this.castlingRights = other.castlingRights;
+        this.enPassantSquare = other.enPassantSquare;
+        this.zobristKey = other.zobristKey;
+        this.pawnKey = other.pawnKey;
+        this.middlegameScore = other.middlegameScore;
+        this.endgameScore = other.endgameScore;
+        this.phase = other.phase;
+        this.historyLength = 0;
+    }
+
+    public Alliance getSideToMove() {
+        return this.sideToMove;
+    }
+
+    public int getPieceCode(final int tileCoordinate) {
+        return this.boardConfig[tileCoordinate];
+    }
+
+    public long getPieceBitboard(final Alliance alliance, final PieceType pieceType) {
+        return this.pieceBitboards[BoardUtils.bitboardIndex(alliance, pieceType)];
+    }
+
+    public long getOccupancy(final Alliance alliance) {
+        return this.occupancy[alliance.ordinal()];
+    }
+
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    public int getEnPassantSquare() {
+        return this.enPassantSquare;
+    }
+
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    // Zobrist hash of the pawns alone
+    public long getPawnKey() {
+        return this.pawnKey;
+    }
+
+    // White relative, material included
+    public int getMiddlegameScore() {
+        return this.middlegameScore;
+    }
+
+    public int getEndgameScore() {
+        return this.endgameScore;
+    }
+
+    // MAX_PHASE of PieceSquareTables with every piece on the board, 0 with only pawns and kings
+    public int getPhase() {
+        return this.phase;
+    }
+
+    public static Alliance getPieceAlliance(final int pieceCode) {
+        return pieceCode < BoardUtils.NUM_PIECE_TYPES ? Alliance.WHITE : Alliance.BLACK;
+    }
+
+    public static PieceType getPieceType(final int pieceCode) {
+        return PIECE_TYPES[pieceCode % BoardUtils.NUM_PIECE_TYPES];
+    }
+
+    // Plays a pseudo legal move, returns false and takes it back if it leaves the mover in check
+    public boolean makeMove(final int move) {
+        final int from = getCurrentCoordinate(move);
+        final int to = getDestinationCoordinate(move);
+        final int flag = getFlag(move);
+        final Alliance alliance = this.sideToMove;
+
+        this.undoMove[this.historyLength] = move;
+        this.undoCastlingRights[this.historyLength] = this.castlingRights;
+        this.undoEnPassantSquare[this.historyLength] = this.enPassantSquare;
+        this.undoZobristKey[this.historyLength] = this.zobristKey;
+
+        if (flag == EN_PASSANT) {
+            removePiece(to - (8 * alliance.getDirection()));
+        } else if ((flag & CAPTURE) != 0) {
+            removePiece(to);
+        }
+
+        removePiece(from);
+        addPiece(to, (flag & PROMOTION) != 0 ? BoardUtils.bitboardIndex(alliance, PieceType.QUEEN) : getMovedPiece(move));
+
+        if (flag == KING_SIDE_CASTLE) {
+            movePiece(to + 1, to - 1);
+        } else if (flag == QUEEN_SIDE_CASTLE) {
+            movePiece(to - 2, to + 1);
+        }
+
+        // pieces were hashed as they moved, now swap out the old state keys
+        this.zobristKey ^= Zobrist.castlingKey(this.castlingRights) ^ Zobrist.enPassantKey(this.enPassantSquare);
+        this.castlingRights &= CASTLING_RIGHTS_MASK[from] & CASTLING_RIGHTS_MASK[to];
+        this.enPassantSquare = flag == PAWN_JUMP ? (from + to) / 2 : NO_SQUARE;
+        this.zobristKey ^= Zobrist.castlingKey(this.castlingRights) ^ Zobrist.enPassantKey(this.enPassantSquare) ^
+                           Zobrist.blackToMoveKey();
+        this.sideToMove = opponent(alliance);
+        this.historyLength++;
+
+        if (isInCheck(alliance)) {
+            unmakeMove();
+            return false;
+        }
+        return true;
+    }
+
+    // Takes back the last move made, restoring the saved undo record
+    public void unmakeMove() {
+        this.historyLength--;
+        final int move = this.undoMove[this.historyLength];
+        final int from = getCurrentCoordinate(move);
+        final int to = getDestinationCoordinate(move);
+        final int flag = getFlag(move);
+        final Alliance alliance = opponent(this.sideToMove);
+
+        removePiece(to);
+        addPiece(from, getMovedPiece(move));
+
+        if (flag == KING_SIDE_CASTLE) {
+            movePiece(to - 1, to + 1);
+        } else if (flag == QUEEN_SIDE_CASTLE) {
+            movePiece(to + 1, to - 2);
+        }
+
+        if (flag == EN_PASSANT) {
+            addPiece(to - (8 * alliance.getDirection()), getCapturedPiece(move));
+        } else if ((flag & CAPTURE) != 0) {
+            addPiece(to, getCapturedPiece(move));
+        }
+
+        this.castlingRights = this.undoCastlingRights[this.historyLength];
+        this.enPassantSquare = this.undoEnPassantSquare[this.historyLength];
+        this.zobristKey = this.undoZobristKey[this.historyLength];
+        this.sideToMove = alliance;
+    }
+
+    // Passes the turn, the en passant square goes with it
+    public void makeNullMove() {
+        this.undoMove[this.historyLength] = NULL_MOVE;
+        this.undoCastlingRights[this.historyLength] = this.castlingRights;
+        this.undoEnPassantSquare[this.historyLength] = this.enPassantSquare;
+        this.undoZobristKey[this.historyLength] = this.zobristKey;
+
+        this.zobristKey ^= Zobrist.enPassantKey(this.enPassantSquare) ^ Zobrist.enPassantKey(NO_SQUARE) ^
+                           Zobrist.blackToMoveKey();
+        this.enPassantSquare = NO_SQUARE;
+        this.sideToMove = opponent(this.sideToMove);
+        this.historyLength++;
+    }
+
+    public void unmakeNullMove() {
+        this.historyLength--;
+        this.enPassantSquare = this.undoEnPassantSquare[this.historyLength];
+        this.zobristKey = this.undoZobristKey[this.historyLength];
+        this.sideToMove = opponent(this.sideToMove);
+    }
+
+    // Anything besides pawns and the king, without it passing can be the best move
+    public boolean hasNonPawnMaterial(final Alliance alliance) {
+        return (this.occupancy[alliance.ordinal()] & ~getPieceBitboard(alliance, PieceType.PAWN) &
+                ~getPieceBitboard(alliance, PieceType.KING)) != 0;
+    }
+
+    public void generateMoves(final IntMoveList moves) {
+        generateMoves(this.sideToMove, moves);
+    }
+
+    // Fills the list with pseudo legal moves for the alliance
+    public void generateMoves(final Alliance alliance, final IntMoveList moves) {
+        moves.clear();
+        final long allPieces = this.occupancy[0] | this.occupancy[1];
+        long pieces = this.occupancy[alliance.ordinal()];
+
+        while (pieces != 0) {
+            final int from = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+
+            switch (getPieceType(this.boardConfig[from])) {
+                case PAWN:
+                    addPawnMoves(alliance, from, moves);
+                    break;
+                case KNIGHT:
+                    addPieceMoves(alliance, from, KNIGHT_ATTACKS[from], moves);
+                    break;
+                case BISHOP:
+                    addPieceMoves(alliance, from, bishopAttacks(from, allPieces), moves);
+                    break;
+                case ROOK:
+                    addPieceMoves(alliance, from, rookAttacks(from, allPieces), moves);
+                    break;
+                case QUEEN:
+                    addPieceMoves(alliance, from, queenAttacks(from, allPieces), moves);
+                    break;
+                case KING:
+                    addPieceMoves(alliance, from, KING_ATTACKS[from], moves);
+                    addCastleMoves(alliance, from, moves);
+                    break;
+            }
+        }
+    }
+
+    // Captures and promotions only, the moves a quiescence search plays
+    public void generateTacticalMoves(final IntMoveList moves) {
+        moves.clear();
+        final Alliance alliance = this.sideToMove;
+        final long allPieces = this.occupancy[0] | this.occupancy[1];
+        final long targets = this.occupancy[opponent(alliance).ordinal()];
+        long pieces = this.occupancy[alliance.ordinal()];
+
+        while (pieces != 0) {
+            final int from = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+
+            switch (getPieceType(this.boardConfig[from])) {
+                case PAWN:
+                    addPawnTacticalMoves(alliance, from, moves);
+                    break;
+                case KNIGHT:
+                    addPieceMoves(alliance, from, KNIGHT_ATTACKS[from] & targets, moves);
+                    break;
+                case BISHOP:
+                    addPieceMoves(alliance, from, bishopAttacks(from, allPieces) & targets, moves);
+                    break;
+                case ROOK:
+                    addPieceMoves(alliance, from, rookAttacks(from, allPieces) & targets, moves);
+                    break;
+                case QUEEN:
+                    addPieceMoves(alliance, from, queenAttacks(from, allPieces) & targets, moves);
+                    break;
+                case KING:
+                    addPieceMoves(alliance, from, KING_ATTACKS[from] & targets, moves);
+                    break;
+            }
+        }
+    }
+
+    public int countMoves(final Alliance alliance) {
+        generateMoves(alliance, this.scratchMoves);
+        return this.scratchMoves.size();
+    }
+
+    public boolean hasLegalMoves() {
+        generateMoves(this.scratchMoves);
+
+        for (int i = 0; i < this.scratchMoves.size(); i++) {
+            if (makeMove(this.scratchMoves.get(i))) {
+                unmakeMove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isInCheck(final Alliance alliance) {
+        final long king = getPieceBitboard(alliance, PieceType.KING);
+        return king != 0 && isSquareAttacked(Long.numberOfTrailingZeros(king), opponent(alliance));
+    }
+
+    private boolean isSquareAttacked(final int square, final Alliance attacker) {
+        return BoardUtils.isSquareAttacked(this.pieceBitboards, this.occupancy[0] | this.occupancy[1], square, attacker);
+    }
+
+    private void addPawnMoves(final Alliance alliance, final int from, final IntMoveList moves) {
+        final int pawn = this.boardConfig[from];
+        final int forward = from + (8 * alliance.getDirection());
+
+        if (BoardUtils.isValidTileCoordinate(forward) && this.boardConfig[forward] == NO_PIECE) {
+            moves.add(create(from, forward, pawn, NO_PIECE, alliance.isPawnPromotionTile(forward) ? PROMOTION : QUIET));
+
+            final boolean onStartRank = alliance.isWhite() ? BoardUtils.SECOND_RANK[from] : BoardUtils.SEVENTH_RANK[from];
+            final int jump = forward + (8 * alliance.getDirection());
+
+            if (onStartRank && this.boardConfig[jump] == NO_PIECE) {
+                moves.add(create(from, jump, pawn, NO_PIECE, PAWN_JUMP));
+            }
+        }
+        addPawnAttack(alliance, from, forward - 1, moves);
+        addPawnAttack(alliance, from, forward + 1, moves);
+    }
+
+    private void addPawnTacticalMoves(final Alliance alliance, final int from, final IntMoveList moves) {
+        final int forward = from + (8 * alliance.getDirection());
+
+        if (BoardUtils.isValidTileCoordinate(forward) && alliance.isPawnPromotionTile(forward) &&
+                this.boardConfig[forward] == NO_PIECE) {
+            moves.add(create(from, forward, this.boardConfig[from], NO_PIECE, PROMOTION));
+        }
+        addPawnAttack(alliance, from, forward - 1, moves);
+        addPawnAttack(alliance, from, forward + 1, moves);
+    }
+
+    private void addPawnAttack(final Alliance alliance, final int from, final int to, final IntMoveList moves) {
+        if (!isValidStep(from, to, 1)) {
+            return;
+        }
+        final int pawn = this.boardConfig[from];
+        final int pieceCode = this.boardConfig[to];
+
+        if (pieceCode != NO_PIECE && getPieceAlliance(pieceCode) != alliance) {
+            moves.add(create(from, to, pawn, pieceCode, alliance.isPawnPromotionTile(to) ? PROMOTION | CAPTURE : CAPTURE));
+        } else if (to == this.enPassantSquare && alliance == this.sideToMove) {
+            moves.add(create(from, to, pawn, BoardUtils.bitboardIndex(opponent(alliance), PieceType.PAWN), EN_PASSANT));
+        }
+    }
+
+    private void addPieceMoves(final Alliance alliance, final int from, final long destinations,
+                               final IntMoveList moves) {
+        final int movedPiece = this.boardConfig[from];
+        long remaining = destinations & ~this.occupancy[alliance.ordinal()];
+
+        while (remaining != 0) {
+            final int to = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            final int pieceCode = this.boardConfig[to];
+            moves.add(create(from, to, movedPiece, pieceCode, pieceCode == NO_PIECE ? QUIET : CAPTURE));
+        }
+    }
+
+    private void addCastleMoves(final Alliance alliance, final int from, final IntMoveList moves) {
+        final int home = alliance.isWhite() ? WHITE_KING_START : BLACK_KING_START;
+        final int kingSide = alliance.isWhite() ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+        final int queenSide = alliance.isWhite() ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+        final int king = this.boardConfig[from];
+        final int rook = BoardUtils.bitboardIndex(alliance, PieceType.ROOK);
+        final Alliance opponent = opponent(alliance);
+
+        if (from != home || (this.castlingRights & (kingSide | queenSide)) == 0 || isSquareAttacked(home, opponent)) {
+            return;
+        }
+
+        if ((this.castlingRights & kingSide) != 0 && this.boardConfig[home + 3] == rook &&
+                this.boardConfig[home + 1] == NO_PIECE && this.boardConfig[home + 2] == NO_PIECE &&
+                !isSquareAttacked(home + 1, opponent) && !isSquareAttacked(home + 2, opponent)) {
+            moves.add(create(home, home + 2, king, NO_PIECE, KING_SIDE_CASTLE));
+        }
+
+        if ((this.castlingRights & queenSide) != 0 && this.boardConfig[home - 4] == rook &&
+                this.boardConfig[home - 1] == NO_PIECE && this.boardConfig[home - 2] == NO_PIECE &&
+                this.boardConfig[home - 3] == NO_PIECE &&
+                !isSquareAttacked(home - 1, opponent) && !isSquareAttacked(home - 2, opponent)) {
+            moves.add(create(home, home - 2, king, NO_PIECE, QUEEN_SIDE_CASTLE));
+        }
+    }
+
+    private void addPiece(final int coordinate, final int pieceCode) {
+        final long bit = 1L << coordinate;
+        this.boardConfig[coordinate] = pieceCode;
+        this.zobristKey ^= Zobrist.pieceKey(pieceCode, coordinate);
+        if (getPieceType(pieceCode) == PieceType.PAWN) {
+            this.pawnKey ^= Zobrist.pieceKey(pieceCode, coordinate);
+        }
+        this.middlegameScore += PieceSquareTables.middlegame(pieceCode, coordinate);
+        this.endgameScore += PieceSquareTables.endgame(pieceCode, coordinate);
+        this.phase += PieceSquareTables.phase(pieceCode);
+        this.pieceBitboards[pieceCode] |= bit;
+        this.occupancy[getPieceAlliance(pieceCode).ordinal()] |= bit;
+    }
+
+    private void removePiece(final int coordinate) {
+        final int pieceCode = this.boardConfig[coordinate];
+        final long bit = 1L << coordinate;
+        this.boardConfig[coordinate] = NO_PIECE;
+        this.zobristKey ^= Zobrist.pieceKey(pieceCode, coordinate);
+        if (getPieceType(pieceCode) == PieceType.PAWN) {
+            this.pawnKey ^= Zobrist.pieceKey(pieceCode, coordinate);
+        }
+        this.middlegameScore -= PieceSquareTables.middlegame(pieceCode, coordinate);
+        this.endgameScore -= PieceSquareTables.endgame(pieceCode, coordinate);
+        this.phase -= PieceSquareTables.phase(pieceCode);
+        this.pieceBitboards[pieceCode] &= ~bit;
+        this.occupancy[getPieceAlliance(pieceCode).ordinal()] &= ~bit;
+    }
+
+    private void movePiece(final int from, final int to) {
+        final int pieceCode = this.boardConfig[from];
+        removePiece(from);
+        addPiece(to, pieceCode);
+    }
+
+    private static Alliance opponent(final Alliance alliance) {
+        return alliance.isWhite() ? Alliance.BLACK : Alliance.WHITE;
+    }
+
+    private static int[] initCastlingRightsMask() {
+        final int[] mask = new int[BoardUtils.NUM_TILES];
+
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            mask[i] = WHITE_KING_SIDE | WHITE_QUEEN_SIDE | BLACK_KING_SIDE | BLACK_QUEEN_SIDE;
+        }
+        // moving the king or a rook, or capturing a rook, clears the matching rights
+        mask[WHITE_KING_START] &= ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+        mask[WHITE_KING_START + 3] &= ~WHITE_KING_SIDE;
+        mask[WHITE_KING_START - 4] &= ~WHITE_QUEEN_SIDE;
+        mask[BLACK_KING_START] &= ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        mask[BLACK_KING_START + 3] &= ~BLACK_KING_SIDE;
+        mask[BLACK_KING_START - 4] &= ~BLACK_QUEEN_SIDE;
+        return mask;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            final int pieceCode = this.boardConfig[i];
+            String tileText = "-";
+
+            if (pieceCode != NO_PIECE) {
+                tileText = getPieceType(pieceCode).toString();
+                tileText = getPieceAlliance(pieceCode).isBlack() ? tileText.toLowerCase() : tileText;
+            }
+            builder.append(String.format("%3s", tileText));
+
+            if ((i + 1) % BoardUtils.NUM_TILES_PER_ROW == 0) {
+                builder.append("\n");
+            }
+        }
+        return builder.toString();
+    }
+}
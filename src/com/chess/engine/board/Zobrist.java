@@ -0,0 +1,94 @@
+/* ZOBRIST KEYS FOR HASHING BOARD POSITIONS */
+
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece;
+
+import java.util.Random;
+
+public final class Zobrist {
+
+    // fixed seed so keys are the same on every run
+    private static final long SEED = 0x5DEECE66DL;
+
+    private static final long[] PIECE_KEYS;
+    private static final long[] CASTLING_KEYS;
+    private static final long[] EN_PASSANT_FILE_KEYS;
+    private static final long BLACK_TO_MOVE_KEY;
+
+    static {
+        final Random random = new Random(SEED);
+        PIECE_KEYS = initKeys(random, BoardUtils.NUM_BITBOARDS * BoardUtils.NUM_TILES);
+        CASTLING_KEYS = initKeys(random, 16);
+        EN_PASSANT_FILE_KEYS = initKeys(random, BoardUtils.NUM_TILES_PER_ROW);
+        BLACK_TO_MOVE_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+        throw new RuntimeException("YOU CANT DO THAT");
+    }
+
+    private static long[] initKeys(final Random random, final int size) {
+        final long[] keys = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextLong();
+        }
+        return keys;
+    }
+
+    public static long pieceKey(final int pieceCode, final int tileCoordinate) {
+        return PIECE_KEYS[pieceCode * BoardUtils.NUM_TILES + tileCoordinate];
+    }
+
+    public static long pieceKey(final Piece piece, final int tileCoordinate) {
+        return pieceKey(BoardUtils.bitboardIndex(piece.getPieceAlliance(), piece.getPieceType()), tileCoordinate);
+    }
+
+    public static long castlingKey(final int castlingRights) {
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    // Only the file of the en passant square is hashed
+    public static long enPassantKey(final int enPassantSquare) {
+        return enPassantSquare == BoardUtils.NO_SQUARE ? 0L : EN_PASSANT_FILE_KEYS[enPassantSquare & 7];
+    }
+
+    public static long sideKey(final Alliance sideToMove) {
+        return sideToMove.isBlack() ? BLACK_TO_MOVE_KEY : 0L;
+    }
+
+    public static long blackToMoveKey() {
+        return BLACK_TO_MOVE_KEY;
+    }
+
+    // Hash of the pawns alone, the key of the pawn structure tables
+    public static long pawnKey(final long whitePawns, final long blackPawns) {
+        return bitboardKey(BoardUtils.bitboardIndex(Alliance.WHITE, Piece.PieceType.PAWN), whitePawns) ^
+               bitboardKey(BoardUtils.bitboardIndex(Alliance.BLACK, Piece.PieceType.PAWN), blackPawns);
+    }
+
+    private static long bitboardKey(final int pieceCode, final long bitboard) {
+        long key = 0L;
+        long remaining = bitboard;
+
+        while (remaining != 0) {
+            key ^= pieceKey(pieceCode, Long.numberOfTrailingZeros(remaining));
+            remaining &= remaining - 1;
+        }
+        return key;
+    }
+
+    // Full recompute, only used when a board is built without a previous position
+    static long calculatePieceKey(final Piece[] boardConfig) {
+        long key = 0L;
+
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            if (boardConfig[i] != null) {
+                key ^= pieceKey(boardConfig[i], i);
+            }
+        }
+        return key;
+    }
+}
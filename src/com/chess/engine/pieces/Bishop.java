@@ -6,21 +6,12 @@ import com.chess.engine.board.Board;
 
 import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
-import com.chess.engine.board.Move.MajorAttackMove;
-import com.chess.engine.board.Tile;
+import com.chess.engine.board.IntMoveList;
 import com.chess.engine.Alliance;
-import com.google.common.collect.ImmutableList;
-import jdk.nashorn.internal.ir.annotations.Immutable;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
 public class Bishop extends Piece {
 
-    private final static int[] CANDIDATE_MOVE_COORDINATES = {-9, -7, 7, 9};
-
     public Bishop(final int piecePosition, final Alliance pieceAlliance) {
 
         super(PieceType.BISHOP, piecePosition, pieceAlliance, true);
@@ -32,38 +23,8 @@ public class Bishop extends Piece {
     }
 
     @Override
-    public Collection<Move> calculateLegalMoves(final Board board) {
-        final List<Move> legalMoves = new ArrayList<>();
-
-        for(final int currentCandidateOffset : CANDIDATE_MOVE_COORDINATES){
-            int candidateDestinationCoordinate = this.piecePosition;
-
-            while(BoardUtils.isValidTileCoordinate(candidateDestinationCoordinate)){
-
-                if(isFirstColumnExclusion(candidateDestinationCoordinate,currentCandidateOffset) ||
-                        isEighthColumnExclusion(candidateDestinationCoordinate, currentCandidateOffset)){
-                    break;
-                }
-                candidateDestinationCoordinate += currentCandidateOffset;
-
-                if(BoardUtils.isValidTileCoordinate(candidateDestinationCoordinate)){
-                    final Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
-
-                    if(!candidateDestinationTile.isTileOccupied()){
-                        legalMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
-                    }else{
-                        final Piece pieceAtDestination = candidateDestinationTile.getPiece();
-                        final Alliance pieceAlliance = pieceAtDestination.getPieceAlliance();
-
-                        if(this.pieceAlliance != pieceAlliance){
-                            legalMoves.add(new MajorAttackMove(board, this,candidateDestinationCoordinate,pieceAtDestination));
-                        }
-                        break;
-                    }
-                }
-            }
-        }
-        return ImmutableList.copyOf(legalMoves);
+    public void calculateLegalMoves(final Board board, final IntMoveList legalMoves) {
+        addPieceMoves(board, BoardUtils.bishopAttacks(this.piecePosition, board.getOccupancy()), legalMoves);
     }
 
     @Override
@@ -71,14 +32,6 @@ public class Bishop extends Piece {
         return new Bishop(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance());
     }
 
-    private static boolean isFirstColumnExclusion(final int currentPosition, final int canidateOffset){
-        return BoardUtils.FIRST_COLUMN[currentPosition] && (canidateOffset == 7 || canidateOffset == -9);
-    }
-
-    private static boolean isEighthColumnExclusion(final int currentPosition, final int canidateOffset){
-        return BoardUtils.EIGHTH_COLUMN[currentPosition] && (canidateOffset == -7 || canidateOffset == 9);
-    }
-
     @Override
     public String toString(){
         return PieceType.BISHOP.toString();
@@ -5,13 +5,9 @@ package com.chess.engine.pieces;
 import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Board;
 import com.chess.engine.Alliance;
+import com.chess.engine.board.IntMove;
+import com.chess.engine.board.IntMoveList;
 import com.chess.engine.board.Move;
-import com.google.common.collect.ImmutableList;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-
-import static com.chess.engine.board.Move.*;
 
 
 public class Pawn extends Piece {
@@ -27,8 +23,7 @@ public class Pawn extends Piece {
     }
 
     @Override
-    public Collection<Move> calculateLegalMoves(final Board board) {
-        final List<Move> legalMoves = new ArrayList<>();
+    public void calculateLegalMoves(final Board board, final IntMoveList legalMoves) {
 
         for(final int currentCandidateOffset : CANDIDATE_MOVE_COORDINATES){
             final int candidateDestinationCoordinate = this.piecePosition + (this.pieceAlliance.getDirection() * currentCandidateOffset);
@@ -38,12 +33,12 @@ public class Pawn extends Piece {
             }
 
             // PAWN MOVE ONE SPACE
-            if(currentCandidateOffset == 8 && !board.getTile(candidateDestinationCoordinate).isTileOccupied()){
+            if(currentCandidateOffset == 8 && !board.isTileOccupied(candidateDestinationCoordinate)){
                 //CHECK FOR PAWN PROMOTION
                 if(this.pieceAlliance.isPawnPromotionTile(candidateDestinationCoordinate)){
-                    legalMoves.add(new PawnPromotion(new PawnMove(board,this, candidateDestinationCoordinate)));
+                    legalMoves.add(createMove(candidateDestinationCoordinate, IntMove.PROMOTION));
                 }else{
-                    legalMoves.add(new PawnMove(board, this, candidateDestinationCoordinate));
+                    legalMoves.add(createMove(candidateDestinationCoordinate, IntMove.QUIET));
                 }
 
             // PAWN JUMP (STARTING MOVE)
@@ -53,8 +48,8 @@ public class Pawn extends Piece {
 
                 final int behindPiece = this.piecePosition + (this.pieceAlliance.getDirection() * 8);
 
-                if(!board.getTile(behindPiece).isTileOccupied() && !board.getTile(candidateDestinationCoordinate).isTileOccupied()){
-                    legalMoves.add(new PawnJump(board, this, candidateDestinationCoordinate));
+                if(!board.isTileOccupied(behindPiece) && !board.isTileOccupied(candidateDestinationCoordinate)){
+                    legalMoves.add(createMove(candidateDestinationCoordinate, IntMove.PAWN_JUMP));
                 }
 
             // PAWN ATTACK (1)
@@ -62,15 +57,15 @@ public class Pawn extends Piece {
                     !((BoardUtils.EIGHTH_COLUMN[this.piecePosition] && this.pieceAlliance.isWhite() ||
                     (BoardUtils.FIRST_COLUMN[this.piecePosition] && this.pieceAlliance.isBlack())))){
 
-                if(board.getTile(candidateDestinationCoordinate).isTileOccupied()){
-                    final Piece pieceOnCandidate = board.getTile(candidateDestinationCoordinate).getPiece();
+                if(board.isTileOccupied(candidateDestinationCoordinate)){
+                    final Piece pieceOnCandidate = board.getPiece(candidateDestinationCoordinate);
 
                      if(this.pieceAlliance != pieceOnCandidate.getPieceAlliance()){
                          // CHECK FOR PAWN PROMOTION
                          if(this.pieceAlliance.isPawnPromotionTile(candidateDestinationCoordinate)){
-                             legalMoves.add(new PawnPromotion(new PawnAttackMove(board,this, candidateDestinationCoordinate, pieceOnCandidate)));
+                             legalMoves.add(createAttackMove(candidateDestinationCoordinate, pieceOnCandidate, IntMove.PROMOTION | IntMove.CAPTURE));
                          }else{
-                             legalMoves.add(new PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
+                             legalMoves.add(createAttackMove(candidateDestinationCoordinate, pieceOnCandidate, IntMove.CAPTURE));
                          }
                     }
                 // CHECK FOR ENPASSANT ATTACK
@@ -79,7 +74,7 @@ public class Pawn extends Piece {
                         final Piece pieceOnCandidate = board.getEnPassantPawn();
 
                         if (this.pieceAlliance != pieceOnCandidate.getPieceAlliance()) {
-                            legalMoves.add(new EnPassantMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
+                            legalMoves.add(createAttackMove(candidateDestinationCoordinate, pieceOnCandidate, IntMove.EN_PASSANT));
                         }
                     }
                 }
@@ -89,15 +84,15 @@ public class Pawn extends Piece {
                     !((BoardUtils.FIRST_COLUMN[this.piecePosition] && this.pieceAlliance.isWhite() ||
                     (BoardUtils.EIGHTH_COLUMN[this.piecePosition] && this.pieceAlliance.isBlack())))){
 
-                if(board.getTile(candidateDestinationCoordinate).isTileOccupied()){
-                    final Piece pieceOnCandidate = board.getTile(candidateDestinationCoordinate).getPiece();
+                if(board.isTileOccupied(candidateDestinationCoordinate)){
+                    final Piece pieceOnCandidate = board.getPiece(candidateDestinationCoordinate);
 
                     if(this.pieceAlliance != pieceOnCandidate.getPieceAlliance()) {
                         // CHECK FOR PAWN PROMOTION
                         if (this.pieceAlliance.isPawnPromotionTile(candidateDestinationCoordinate)) {
-                            legalMoves.add(new PawnPromotion(new PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate)));
+                            legalMoves.add(createAttackMove(candidateDestinationCoordinate, pieceOnCandidate, IntMove.PROMOTION | IntMove.CAPTURE));
                         } else {
-                            legalMoves.add(new PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
+                            legalMoves.add(createAttackMove(candidateDestinationCoordinate, pieceOnCandidate, IntMove.CAPTURE));
                         }
                     }
                 // CHECK FOR ENPASSANT ATTACK
@@ -106,13 +101,12 @@ public class Pawn extends Piece {
                         final Piece pieceOnCandidate = board.getEnPassantPawn();
 
                         if (this.pieceAlliance != pieceOnCandidate.getPieceAlliance()) {
-                            legalMoves.add(new EnPassantMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
+                            legalMoves.add(createAttackMove(candidateDestinationCoordinate, pieceOnCandidate, IntMove.EN_PASSANT));
                         }
                     }
                 }
             }
         }
-        return ImmutableList.copyOf(legalMoves);
     }
 
     @Override
@@ -4,6 +4,9 @@ package com.chess.engine.pieces;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.IntMove;
+import com.chess.engine.board.IntMoveList;
 import com.chess.engine.board.Move;
 
 import java.util.*;
@@ -14,6 +17,7 @@ public abstract class Piece {
     protected final int piecePosition;
     protected final Alliance pieceAlliance;
     protected final boolean isFirstMove;
+    protected final int pieceCode;
     private final int cachedHashCode;
 
     Piece(final PieceType pieceType, int piecePosition, final Alliance pieceAlliance, final boolean isFirstMove) {
@@ -21,6 +25,7 @@ public abstract class Piece {
         this.pieceAlliance = pieceAlliance;
         this.piecePosition = piecePosition;
         this.isFirstMove = isFirstMove;
+        this.pieceCode = BoardUtils.bitboardIndex(pieceAlliance, pieceType);
         this.cachedHashCode = getHash();
     }
 
@@ -76,7 +81,44 @@ public abstract class Piece {
         return this.pieceType.getPieceValue();
     }
 
-    public abstract Collection<Move> calculateLegalMoves(final Board board);
+    public int getPieceCode() {
+        return this.pieceCode;
+    }
+
+    // Move objects for the GUI, decoded from the int moves
+    public Collection<Move> calculateLegalMoves(final Board board) {
+        final IntMoveList legalMoves = new IntMoveList();
+        calculateLegalMoves(board, legalMoves);
+        return Move.MoveFactory.createMoves(board, legalMoves);
+    }
+
+    // Adds this piece's moves to the list as int encoded moves
+    public abstract void calculateLegalMoves(final Board board, final IntMoveList legalMoves);
+
+    protected int createMove(final int destinationCoordinate, final int flag) {
+        return IntMove.create(this.piecePosition, destinationCoordinate, this.pieceCode, BoardUtils.NO_PIECE, flag);
+    }
+
+    protected int createAttackMove(final int destinationCoordinate, final Piece attackedPiece, final int flag) {
+        return IntMove.create(this.piecePosition, destinationCoordinate, this.pieceCode, attackedPiece.getPieceCode(), flag);
+    }
+
+    // Adds a move to every tile of a destination bitboard not held by our own pieces
+    protected void addPieceMoves(final Board board, final long destinations, final IntMoveList legalMoves) {
+        long remaining = destinations & ~board.getOccupancy(this.pieceAlliance);
+
+        while(remaining != 0){
+            final int candidateDestinationCoordinate = Long.numberOfTrailingZeros(remaining);
+            final Piece pieceAtDestination = board.getPiece(candidateDestinationCoordinate);
+            remaining &= remaining - 1;
+
+            if(pieceAtDestination == null){
+                legalMoves.add(createMove(candidateDestinationCoordinate, IntMove.QUIET));
+            }else{
+                legalMoves.add(createAttackMove(candidateDestinationCoordinate, pieceAtDestination, IntMove.CAPTURE));
+            }
+        }
+    }
 
     public abstract Piece move_Piece(Move move);
 
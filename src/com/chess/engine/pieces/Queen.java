@@ -6,20 +6,11 @@ import com.chess.engine.Alliance;
 import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
-import com.chess.engine.board.Tile;
-import com.google.common.collect.ImmutableList;
+import com.chess.engine.board.IntMoveList;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
-
-import static com.chess.engine.board.Move.*;
 
 public class Queen extends Piece {
 
-    private final static int[] CANDIDATE_MOVE_COORDINATES = {-9, -8, -7, -1, 1, 7, 8, 9};
-
     public Queen(final int piecePosition, final Alliance pieceAlliance) {
 
         super(PieceType.QUEEN, piecePosition, pieceAlliance, true);
@@ -31,39 +22,8 @@ public class Queen extends Piece {
     }
 
     @Override
-    public Collection<Move> calculateLegalMoves(Board board) {
-        final List<Move> legalMoves = new ArrayList<>();
-
-        for(final int currentCandidateOffset : CANDIDATE_MOVE_COORDINATES){
-            int candidateDestinationCoordinate = this.piecePosition;
-
-            while(BoardUtils.isValidTileCoordinate(candidateDestinationCoordinate)){
-
-                if(isFirstColumnExclusion(candidateDestinationCoordinate,currentCandidateOffset) ||
-                        isEighthColumnExclusion(candidateDestinationCoordinate, currentCandidateOffset)){
-                    break;
-                }
-                candidateDestinationCoordinate += currentCandidateOffset;
-
-                if(BoardUtils.isValidTileCoordinate(candidateDestinationCoordinate)){
-                    final Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
-
-                    if(!candidateDestinationTile.isTileOccupied()){
-                        legalMoves.add(new MajorMove(board, this, candidateDestinationCoordinate));
-
-                    }else{
-                        final Piece pieceAtDestination = candidateDestinationTile.getPiece();
-                        final Alliance pieceAlliance = pieceAtDestination.getPieceAlliance();
-
-                        if(this.pieceAlliance != pieceAlliance){
-                            legalMoves.add(new MajorAttackMove(board, this,candidateDestinationCoordinate,pieceAtDestination));
-                        }
-                        break;
-                    }
-                }
-            }
-        }
-        return ImmutableList.copyOf(legalMoves);
+    public void calculateLegalMoves(final Board board, final IntMoveList legalMoves) {
+        addPieceMoves(board, BoardUtils.queenAttacks(this.piecePosition, board.getOccupancy()), legalMoves);
     }
 
     @Override
@@ -71,16 +31,6 @@ public class Queen extends Piece {
         return new Queen(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance());
     }
 
-    private static boolean isFirstColumnExclusion(final int currentPosition, final int canidateOffset){
-        return BoardUtils.FIRST_COLUMN[currentPosition] && (canidateOffset == -1 || canidateOffset == 7
-                || canidateOffset == -9);
-    }
-
-    private static boolean isEighthColumnExclusion(final int currentPosition, final int canidateOffset){
-        return BoardUtils.EIGHTH_COLUMN[currentPosition] && (canidateOffset == 1 || canidateOffset == -7
-                || canidateOffset == 9);
-    }
-
     @Override
     public String toString(){
         return PieceType.QUEEN.toString();
@@ -2,20 +2,18 @@ package com.chess.engine.player;
 
 import com.chess.engine.board.Board;
 import com.chess.engine.Alliance;
-import com.chess.engine.board.Move;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.IntMove;
+import com.chess.engine.board.IntMoveList;
 import com.chess.engine.board.Tile;
 import com.chess.engine.pieces.Piece;
-import com.chess.engine.pieces.Rook;
-import com.google.common.collect.ImmutableList;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Collection;
 
 public class BlackPlayer extends Player {
-    public BlackPlayer(final Board board, final Collection<Move> whiteStandardLegalMoves, final Collection<Move> blackStandardLegalMoves) {
+    public BlackPlayer(final Board board) {
 
-        super(board, blackStandardLegalMoves, whiteStandardLegalMoves);
+        super(board);
 
     }
 
@@ -35,21 +33,19 @@ public class BlackPlayer extends Player {
     }
 
     @Override
-    protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals, final Collection<Move> opponentsLegals) {
-        final List<Move> kingCastles = new ArrayList<>();
-
+    protected void calculateKingCastles(final IntMoveList playerLegals) {
         //Black King side Castle Move
         if (this.playerKing.isFirstMove() && !this.isInCheck()) {
             if (!this.board.getTile(5).isTileOccupied() && !this.board.getTile(6).isTileOccupied()) {
                 final Tile rookTile = this.board.getTile(7);
 
                 if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-                    if (calculateAttacksOnTile(5, opponentsLegals).isEmpty() &&
-                            calculateAttacksOnTile(6, opponentsLegals).isEmpty() &&
+                    if (!isTileAttacked(5) &&
+                            !isTileAttacked(6) &&
                             rookTile.getPiece().getPieceType().isRook()) {
 
-                        kingCastles.add(new Move.KingSideCastleMove(this.board, this.playerKing,6,
-                                       (Rook)rookTile.getPiece(), rookTile.getTileCoordinate(), 5));
+                        playerLegals.add(IntMove.create(this.playerKing.getPiecePosition(), 6, this.playerKing.getPieceCode(),
+                                       BoardUtils.NO_PIECE, IntMove.KING_SIDE_CASTLE));
 
                     }
                 }
@@ -62,16 +58,15 @@ public class BlackPlayer extends Player {
                 final Tile rookTile = this.board.getTile(0);
 
                 if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove() &&
-                        Player.calculateAttacksOnTile(2,opponentsLegals).isEmpty() &&
-                        Player.calculateAttacksOnTile(3,opponentsLegals).isEmpty() &&
+                        !isTileAttacked(2) &&
+                        !isTileAttacked(3) &&
                         rookTile.getPiece().getPieceType().isRook()) {
 
-                    kingCastles.add(new Move.KingSideCastleMove(this.board, this.playerKing,2,
-                                   (Rook)rookTile.getPiece(), rookTile.getTileCoordinate(), 3));
+                    playerLegals.add(IntMove.create(this.playerKing.getPiecePosition(), 2, this.playerKing.getPieceCode(),
+                                   BoardUtils.NO_PIECE, IntMove.QUEEN_SIDE_CASTLE));
                 }
             }
         }
-        return ImmutableList.copyOf(kingCastles);
     }
 
 
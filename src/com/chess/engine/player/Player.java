@@ -1,53 +1,64 @@
 package com.chess.engine.player;
 
 import com.chess.engine.board.Board;
+import com.chess.engine.board.GameStatus;
+import com.chess.engine.board.IntMove;
+import com.chess.engine.board.IntMoveList;
 import com.chess.engine.board.Move;
 import com.chess.engine.Alliance;
 import com.chess.engine.pieces.King;
 import com.chess.engine.pieces.Piece;
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 
 public abstract class Player {
 
     protected final Board board;
     protected final King playerKing;
-    protected final Collection<Move> legalMoves;
-    private final boolean isInCheck;
 
+    // Computed on first use, most boards built during a search are never expanded.
+    // Boards are immutable so a racing thread can only compute the same value again.
+    private volatile IntMoveList legalMoves;
+    private volatile Boolean isInCheck;
+    private volatile Collection<Move> legalMoveObjects;
 
-    Player(final Board board, final Collection<Move> legalMoves, final Collection<Move> opponentMoves){
+
+    Player(final Board board){
         this.board = board;
         this.playerKing = establishKing();
-        this.legalMoves = ImmutableList.copyOf(Iterables.concat(legalMoves, calculateKingCastles(legalMoves, opponentMoves)));
-        this.isInCheck = !Player.calculateAttacksOnTile(this.playerKing.getPiecePosition(), opponentMoves).isEmpty();
     }
 
     public King getPlayerKing(){
         return this.playerKing;
     }
 
+    // Move objects are only decoded when the GUI or a caller asks for them
     public Collection<Move> getLegalMoves(){
-        return this.legalMoves;
+        Collection<Move> legalMoveObjects = this.legalMoveObjects;
+        if(legalMoveObjects == null){
+            legalMoveObjects = Move.MoveFactory.createMoves(this.board, getLegalMoveList());
+            this.legalMoveObjects = legalMoveObjects;
+        }
+        return legalMoveObjects;
     }
 
-    protected static Collection<Move> calculateAttacksOnTile(int piecePosition, Collection<Move> moves) {
-        final List<Move> attackMoves = new ArrayList<>();
-
-        for(final Move move : moves){
-            if(piecePosition == move.getDestinationCoordinate()){
-                attackMoves.add(move);
+    // The int encoded moves, callers must not modify the list
+    public IntMoveList getLegalMoveList(){
+        IntMoveList legalMoves = this.legalMoves;
+        if(legalMoves == null){
+            legalMoves = new IntMoveList();
+            for(final Piece piece : getActivePieces()){
+                piece.calculateLegalMoves(this.board, legalMoves);
             }
+            calculateKingCastles(legalMoves);
+            this.legalMoves = legalMoves;
         }
-        return ImmutableList.copyOf(attackMoves);
+        return legalMoves;
+    }
+
+    protected boolean isTileAttacked(final int tileCoordinate){
+        return this.board.isSquareAttacked(tileCoordinate, getOpponent().getAlliance());
     }
 
     private King establishKing() {
@@ -61,26 +72,38 @@ public abstract class Player {
 
 
     public boolean isMoveLegal(final Move move){
-        return this.legalMoves.contains(move);
+        return move.getMovedPiece() != null && getLegalMoveList().contains(IntMove.create(move));
     }
 
     public boolean isInCheck(){
-        return this.isInCheck;
+        Boolean isInCheck = this.isInCheck;
+        if(isInCheck == null){
+            isInCheck = isTileAttacked(this.playerKing.getPiecePosition());
+            this.isInCheck = isInCheck;
+        }
+        return isInCheck;
     }
 
+    // The side to move reads the status its board already worked out
     public boolean isInCheckMate(){
-        return this.isInCheck && !hasEscapeMoves();
+        if(this == this.board.currentPlayer()){
+            return this.board.getGameStatus() == GameStatus.CHECKMATE;
+        }
+        return isInCheck() && !hasEscapeMoves();
     }
 
     public boolean isInStaleMate(){
-        return !this.isInCheck && !hasEscapeMoves();
+        if(this == this.board.currentPlayer()){
+            return this.board.getGameStatus() == GameStatus.STALEMATE;
+        }
+        return !isInCheck() && !hasEscapeMoves();
     }
 
     protected boolean hasEscapeMoves() {
-        for(final Move move : this.legalMoves){
-            final MoveTransition transition = makeMove(move);
+        final IntMoveList legalMoves = getLegalMoveList();
 
-            if(transition.getMoveStatus().isDone()){
+        for(int i = 0; i < legalMoves.size(); i++){
+            if(!this.board.leavesKingInCheck(legalMoves.get(i))){
                 return true;
             }
         }
@@ -104,14 +127,11 @@ public abstract class Player {
         if(!isMoveLegal(move)){
             return new MoveTransition(this.board, this.board, move, MoveStatus.ILLEGAL_MOVE);
         }
-        final Board transitionBoard = move.execute();
-
-        final Collection<Move> kingAttacks = Player.calculateAttacksOnTile(transitionBoard.currentPlayer().getOpponent().getPlayerKing().getPiecePosition(),
-                transitionBoard.currentPlayer().getLegalMoves());
-
-        if(!kingAttacks.isEmpty()){
+        // the king is checked on a scratch copy before paying for the new board
+        if(this.board.leavesKingInCheck(IntMove.create(move))){
             return new MoveTransition(this.board,this.board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK);
         }
+        final Board transitionBoard = move.execute();
         return new MoveTransition(this.board, transitionBoard, move, MoveStatus.DONE);
     }
 
@@ -121,7 +141,8 @@ public abstract class Player {
 
     public abstract Player getOpponent();
 
-    protected abstract Collection<Move> calculateKingCastles(Collection<Move> playerLegals, Collection<Move> opponentsLegals);
+    // Adds the castle moves to the player's list
+    protected abstract void calculateKingCastles(IntMoveList playerLegals);
 
 
 
@@ -1,22 +1,20 @@
 package com.chess.engine.player;
 
 import com.chess.engine.board.Board;
-import com.chess.engine.board.Move;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.IntMove;
+import com.chess.engine.board.IntMoveList;
 import com.chess.engine.board.Tile;
 import com.chess.engine.Alliance;
 import com.chess.engine.pieces.Piece;
-import com.chess.engine.pieces.Rook;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
 public class WhitePlayer extends Player {
 
-    public WhitePlayer(final Board board, final Collection<Move> whiteStandardLegalMoves, final Collection<Move> blackStandardLegalMoves) {
+    public WhitePlayer(final Board board) {
 
-        super(board, whiteStandardLegalMoves, blackStandardLegalMoves);
+        super(board);
     }
 
     @Override
@@ -36,21 +34,19 @@ public class WhitePlayer extends Player {
     }
 
     @Override
-    protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals, final Collection<Move> opponentsLegals) {
-        final List<Move> kingCastles = new ArrayList<>();
-
+    protected void calculateKingCastles(final IntMoveList playerLegals) {
         //White King side Castle Move
         if(this.playerKing.isFirstMove() && !this.isInCheck()){
             if(!this.board.getTile(61).isTileOccupied() && !this.board.getTile(62).isTileOccupied()){
                final Tile rookTile = this.board.getTile(63);
 
                if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()){
-                   if(calculateAttacksOnTile(61, opponentsLegals).isEmpty() &&
-                           calculateAttacksOnTile(62, opponentsLegals).isEmpty() &&
+                   if(!isTileAttacked(61) &&
+                           !isTileAttacked(62) &&
                            rookTile.getPiece().getPieceType().isRook()){
 
-                       kingCastles.add(new Move.KingSideCastleMove(this.board, this.playerKing,62,
-                                      (Rook)rookTile.getPiece(), rookTile.getTileCoordinate(), 61));
+                       playerLegals.add(IntMove.create(this.playerKing.getPiecePosition(), 62, this.playerKing.getPieceCode(),
+                                      BoardUtils.NO_PIECE, IntMove.KING_SIDE_CASTLE));
 
                    }
                }
@@ -63,15 +59,14 @@ public class WhitePlayer extends Player {
                 final Tile rookTile = this.board.getTile(56);
 
                 if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove() &&
-                        Player.calculateAttacksOnTile(58,opponentsLegals).isEmpty() &&
-                        Player.calculateAttacksOnTile(59, opponentsLegals).isEmpty() &&
+                        !isTileAttacked(58) &&
+                        !isTileAttacked(59) &&
                         rookTile.getPiece().getPieceType().isRook()){
 
-                    kingCastles.add(new Move.KingSideCastleMove(this.board, this.playerKing, 58,
-                                   (Rook)rookTile.getPiece(), rookTile.getTileCoordinate(), 59));
+                    playerLegals.add(IntMove.create(this.playerKing.getPiecePosition(), 58, this.playerKing.getPieceCode(),
+                                   BoardUtils.NO_PIECE, IntMove.QUEEN_SIDE_CASTLE));
                 }
             }
         }
-        return Collections.unmodifiableList(kingCastles);
     }
 }
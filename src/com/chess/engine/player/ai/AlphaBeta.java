@@ -0,0 +1,619 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.IntMove;
+import com.chess.engine.board.IntMoveList;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.MoveTransition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class AlphaBeta implements MoveStrategy {
+
+    // above any evaluation, small enough to negate safely
+    static final int INFINITY = 1000000;
+    // being mated n plies from the root scores n - MATE, so a shorter mate is always preferred
+    static final int MATE = 100000;
+    // any score past this is a mate, no material balance comes near it
+    static final int MATE_THRESHOLD = MATE - MoveOrdering.MAX_PLY;
+
+    // the clock is looked at once every 1024 nodes
+    private static final int CLOCK_CHECK_MASK = 1023;
+    private static final int DEFAULT_HASH_MEGABYTES = 16;
+    // room left for positional terms when a capture is pruned as hopeless
+    private static final int DELTA_MARGIN = 200;
+    private static final int QUEEN_VALUE = Piece.PieceType.QUEEN.getPieceValue();
+    // null move reductions, the larger one from this remaining depth on
+    private static final int NULL_MOVE_REDUCTION = 2;
+    private static final int DEEP_NULL_MOVE_REDUCTION = 3;
+    private static final int DEEP_NULL_MOVE_DEPTH = 7;
+    // half width of the first window around the previous iteration's score
+    private static final int ASPIRATION_WINDOW = 50;
+    // two plies from the horizon, this far below alpha only captures are looked at
+    private static final int RAZOR_MARGIN = 600;
+    // late quiet moves are searched shallower, more so once many moves have gone by
+    private static final int LATE_MOVE_DEPTH = 3;
+    private static final int LATE_MOVE_INDEX = 4;
+    private static final int VERY_LATE_MOVE_INDEX = 10;
+
+    private final BoardEvaluator boardEvaluator;
+    // quiet moves one ply from the horizon are skipped when even this gain leaves them below alpha
+    private final int futilityMargin;
+    private final int searchDepth;
+    private final TimeControl timeControl;
+    private final TranspositionTable transpositionTable;
+    private final MoveOrdering moveOrdering;
+    private final Set<Pruning> pruning;
+    private final long[] pruningCounts;
+    // shared with the other threads of a parallel search, index 0 is the thread that reports the move
+    private final AtomicBoolean stopSignal;
+    private final int helperIndex;
+    private final boolean isParallel;
+    private final NodeCounter nodeCounter;
+    // triangular table, row ply holds the best line found from that ply on
+    private final int[][] pvTable;
+    private final int[] pvLength;
+    private List<Move> principalVariation;
+    private IntMoveList[] moveBuffers;
+    private long hardDeadline;
+    private long nodes;
+    private boolean canAbort;
+    private boolean isAborted;
+    private boolean isReporting;
+
+    public AlphaBeta(final int depth) {
+        this(depth, TimeControl.NONE);
+    }
+
+    // Deepens one ply at a time up to depth until the time control runs out
+    public AlphaBeta(final int depth, final TimeControl timeControl) {
+        this(depth, timeControl, new TranspositionTable(DEFAULT_HASH_MEGABYTES));
+    }
+
+    // The table can outlive the strategy and carry entries from one move to the next
+    public AlphaBeta(final int depth, final TimeControl timeControl, final TranspositionTable transpositionTable) {
+        this(depth, timeControl, transpositionTable, EnumSet.allOf(Pruning.class));
+    }
+
+    public AlphaBeta(final int depth, final TimeControl timeControl, final TranspositionTable transpositionTable,
+                     final Set<Pruning> pruning) {
+        this(depth, timeControl, transpositionTable, pruning, new AtomicBoolean(), 0, false);
+    }
+
+    // One thread of a parallel search, the caller resets the stop signal and ages the table
+    AlphaBeta(final int depth, final TimeControl timeControl, final TranspositionTable transpositionTable,
+              final Set<Pruning> pruning, final AtomicBoolean stopSignal, final int helperIndex) {
+        this(depth, timeControl, transpositionTable, pruning, stopSignal, helperIndex, true);
+    }
+
+    private AlphaBeta(final int depth, final TimeControl timeControl, final TranspositionTable transpositionTable,
+                      final Set<Pruning> pruning, final AtomicBoolean stopSignal, final int helperIndex,
+                      final boolean isParallel) {
+        this.boardEvaluator = new TaperedBoardEvaluator();
+        this.futilityMargin = this.boardEvaluator.getFutilityMargin();
+        this.searchDepth = depth;
+        this.timeControl = timeControl;
+        this.transpositionTable = transpositionTable;
+        this.moveOrdering = new MoveOrdering();
+        this.pruning = pruning.isEmpty() ? EnumSet.noneOf(Pruning.class) : EnumSet.copyOf(pruning);
+        this.pruningCounts = new long[Pruning.values().length];
+        this.stopSignal = stopSignal;
+        this.helperIndex = helperIndex;
+        this.isParallel = isParallel;
+        this.nodeCounter = this::countNode;
+        this.pvTable = new int[MoveOrdering.MAX_PLY][MoveOrdering.MAX_PLY];
+        this.pvLength = new int[MoveOrdering.MAX_PLY];
+        this.principalVariation = Collections.emptyList();
+        this.isReporting = true;
+    }
+
+    @Override
+    public String toString(){
+
+        return "AlphaBeta";
+    }
+
+    // Searches print their depth, score and line unless switched off, helpers never print
+    public void setReporting(final boolean isReporting) {
+        this.isReporting = isReporting;
+    }
+
+    // Asks a running search to stop, it returns the move of its last completed iteration
+    public void stop() {
+        this.stopSignal.set(true);
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        final long startTime = System.currentTimeMillis();
+        final boolean isHelper = this.helperIndex > 0;
+        if (!this.isParallel) {
+            this.stopSignal.set(false);
+            this.transpositionTable.newSearch();
+        }
+        if (!isHelper && this.isReporting) {
+            System.out.println(board.currentPlayer() + "Evaluating with depth of: " + this.searchDepth +
+                               ", " + this.timeControl);
+        }
+
+        // One move buffer per ply, the tree is walked on a single search board
+        final SearchBoard searchBoard = new SearchBoard(board);
+        this.moveBuffers = new IntMoveList[MoveOrdering.MAX_PLY];
+        for (int i = 0; i < this.moveBuffers.length; i++) {
+            this.moveBuffers[i] = new IntMoveList();
+        }
+        this.hardDeadline = deadline(startTime, this.timeControl.getHardLimit());
+        final long softDeadline = deadline(startTime, this.timeControl.getSoftLimit());
+        this.nodes = 0;
+        Arrays.fill(this.pruningCounts, 0);
+        this.isAborted = false;
+        this.moveOrdering.newSearch();
+
+        final IntMoveList rootMoves = legalRootMoves(board, searchBoard);
+        this.moveOrdering.orderMoves(rootMoves, IntMove.NULL_MOVE, 0);
+        final IntMoveList bestLine = new IntMoveList();
+        int completedDepth = 0;
+        int score = 0;
+
+        // a forced move needs no search
+        if (rootMoves.size() == 1) {
+            bestLine.add(rootMoves.get(0));
+        } else if (!rootMoves.isEmpty()) {
+            // half the ply buffers are left for the quiescence search
+            final int maxDepth = Math.min(Math.max(this.searchDepth, 1), MoveOrdering.MAX_PLY / 2);
+            // only the main thread has to finish its first iteration, helpers on odd indices start a ply deeper
+            this.canAbort = isHelper;
+
+            for (int depth = 1 + this.helperIndex % 2; depth <= maxDepth; depth++) {
+                final int value = aspirationSearch(searchBoard, rootMoves, depth, score);
+
+                // an aborted iteration is thrown away, the last completed one stands
+                if (this.isAborted) {
+                    break;
+                }
+                score = value;
+                completedDepth = depth;
+                this.canAbort = true;
+                bestLine.clear();
+                for (int i = 0; i < this.pvLength[0]; i++) {
+                    bestLine.add(this.pvTable[0][i]);
+                }
+
+                // the best move is searched first on the next iteration
+                moveToFront(rootMoves, bestLine.get(0));
+
+                if (Math.abs(score) >= MATE_THRESHOLD || System.currentTimeMillis() >= softDeadline ||
+                        this.stopSignal.get()) {
+                    break;
+                }
+            }
+        }
+        if (isHelper) {
+            return null;
+        }
+        final long executionTime = System.currentTimeMillis() - startTime;
+        // only the chosen line is turned back into move objects
+        this.principalVariation = decodeLine(board, bestLine);
+        final Move selectedMove = this.principalVariation.isEmpty() ? null : this.principalVariation.get(0);
+
+        if (this.isReporting) {
+            System.out.printf("%s Selects %s : Depth: %d Score: %d PV: %s Nodes: %d Hash: %s Time Taken: %d",
+                              board.currentPlayer().toString(), selectedMove, completedDepth, score,
+                              this.principalVariation, this.nodes, this.transpositionTable, executionTime);
+        }
+        return selectedMove;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    // How often the technique cut or reduced a node during the last search
+    public long getPruningCount(final Pruning technique) {
+        return this.pruningCounts[technique.ordinal()];
+    }
+
+    // The best line of the last search, starting with the move execute returned
+    public List<Move> getPrincipalVariation() {
+        return this.principalVariation;
+    }
+
+    // Starts from a narrow window around the last score and widens whichever side fails
+    private int aspirationSearch(final SearchBoard board, final IntMoveList rootMoves, final int depth,
+                                 final int previousScore) {
+        if (depth == 1 || Math.abs(previousScore) >= MATE_THRESHOLD) {
+            return searchRoot(board, rootMoves, depth, -INFINITY, INFINITY);
+        }
+        int delta = ASPIRATION_WINDOW;
+        int alpha = previousScore - delta;
+        int beta = previousScore + delta;
+
+        while (true) {
+            final int value = searchRoot(board, rootMoves, depth, alpha, beta);
+
+            if (this.isAborted) {
+                return value;
+            }
+            delta *= 2;
+            if (value <= alpha && alpha > -INFINITY) {
+                alpha = Math.max(previousScore - delta, -INFINITY);
+            } else if (value >= beta && beta < INFINITY) {
+                beta = Math.min(previousScore + delta, INFINITY);
+            } else {
+                return value;
+            }
+        }
+    }
+
+    // Principal variation search at the root, leaves the best line in the first row of the pv table
+    private int searchRoot(final SearchBoard board, final IntMoveList rootMoves, final int depth,
+                           final int alpha, final int beta) {
+        int bestValue = -INFINITY;
+        int bestMove = rootMoves.get(0);
+        int currentAlpha = alpha;
+        this.pvLength[0] = 0;
+
+        for (int i = 0; i < rootMoves.size(); i++){
+            final int move = rootMoves.get(i);
+            board.makeMove(move);
+            int currentValue;
+
+            if (i == 0) {
+                currentValue = -alphaBeta(board, depth - 1, 1, -beta, -currentAlpha, true);
+            } else {
+                currentValue = -alphaBeta(board, depth - 1, 1, -currentAlpha - 1, -currentAlpha, true);
+                if (currentValue > currentAlpha && currentValue < beta) {
+                    currentValue = -alphaBeta(board, depth - 1, 1, -beta, -currentAlpha, true);
+                }
+            }
+            board.unmakeMove();
+
+            if (this.isAborted) {
+                break;
+            }
+            if(i == 0 || currentValue > bestValue){
+                bestValue = currentValue;
+                bestMove = move;
+
+                if (currentValue > currentAlpha) {
+                    currentAlpha = currentValue;
+                    updatePrincipalVariation(0, move);
+
+                    if (currentAlpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+        // every move failed low, the line is only as good as its first move
+        if (this.pvLength[0] == 0) {
+            this.pvTable[0][0] = bestMove;
+            this.pvLength[0] = 1;
+        }
+        return bestValue;
+    }
+
+    // Negamax with fail soft bounds, scores are from the side to move's point of view
+    private int alphaBeta(final SearchBoard board, final int depth, final int ply, final int alpha, final int beta,
+                          final boolean allowNullMove){
+        if (countNode()) {
+            return 0;
+        }
+        this.pvLength[ply] = ply;
+        if(depth <= 0){
+            return quiescence(board, ply, alpha, beta, this.boardEvaluator, this.moveOrdering, this.moveBuffers,
+                              this.nodeCounter, true);
+        }
+        final boolean isPvNode = beta - alpha > 1;
+        final long zobristKey = board.getZobristKey();
+        final long entry = this.transpositionTable.probe(zobristKey);
+
+        // a deep enough entry answers the node when its bound falls outside the window,
+        // pv nodes are searched anyway so the line stays whole
+        if (!isPvNode && entry != 0L && TranspositionTable.getDepth(entry) >= depth) {
+            final int score = scoreFromTable(TranspositionTable.getScore(entry), ply);
+            final int bound = TranspositionTable.getBound(entry);
+
+            if (bound == TranspositionTable.EXACT ||
+                    (bound == TranspositionTable.LOWER_BOUND && score >= beta) ||
+                    (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+                return score;
+            }
+        }
+
+        final Alliance sideToMove = board.getSideToMove();
+        final boolean isInCheck = board.isInCheck(sideToMove);
+        final boolean canPrune = !isPvNode && !isInCheck && Math.abs(alpha) < MATE_THRESHOLD;
+        final int staticEval = canPrune && depth <= 2 ? evaluate(this.boardEvaluator, board) : 0;
+
+        // Razoring, far enough below alpha two plies out only a capture can save the node
+        if (canPrune && depth == 2 && this.pruning.contains(Pruning.RAZORING) && staticEval + RAZOR_MARGIN <= alpha) {
+            final int value = quiescence(board, ply, alpha, alpha + 1, this.boardEvaluator, this.moveOrdering,
+                                         this.moveBuffers, this.nodeCounter, true);
+            if (value <= alpha) {
+                this.pruningCounts[Pruning.RAZORING.ordinal()]++;
+                return value;
+            }
+        }
+
+        // Null move pruning, if passing still holds beta a real move will too. Passing can be
+        // the best move in check or with only pawns left, so those positions are always searched
+        if (allowNullMove && !isPvNode && !isInCheck && depth > NULL_MOVE_REDUCTION &&
+                this.pruning.contains(Pruning.NULL_MOVE) && board.hasNonPawnMaterial(sideToMove)) {
+            final int reduction = depth >= DEEP_NULL_MOVE_DEPTH ? DEEP_NULL_MOVE_REDUCTION : NULL_MOVE_REDUCTION;
+            board.makeNullMove();
+            final int nullValue = -alphaBeta(board, depth - 1 - reduction, ply + 1, -beta, -beta + 1, false);
+            board.unmakeNullMove();
+
+            if (this.isAborted) {
+                return 0;
+            }
+            // a mate found after passing proves nothing
+            if (nullValue >= beta) {
+                this.pruningCounts[Pruning.NULL_MOVE.ordinal()]++;
+                return nullValue >= MATE_THRESHOLD ? beta : nullValue;
+            }
+        }
+        final IntMoveList moves = this.moveBuffers[ply];
+        board.generateMoves(moves);
+        this.moveOrdering.orderMoves(moves, TranspositionTable.getMove(entry), ply);
+
+        // Futility pruning, one ply from the horizon a quiet move cannot make up the gap to alpha
+        final boolean isFutile = canPrune && depth == 1 && this.pruning.contains(Pruning.FUTILITY_PRUNING) &&
+                                 staticEval + this.futilityMargin <= alpha;
+
+        int bestValue = -INFINITY;
+        int bestMove = 0;
+        int currentAlpha = alpha;
+        int legalMoves = 0;
+
+        for(int i = 0; i < moves.size(); i++){
+            final int move = moves.get(i);
+            if(board.makeMove(move)){
+                final boolean isQuiet = !IntMove.isAttack(move) && !IntMove.isPromotion(move) &&
+                                        !board.isInCheck(board.getSideToMove());
+                int currentValue;
+
+                if (isFutile && isQuiet && legalMoves > 0) {
+                    board.unmakeMove();
+                    legalMoves++;
+                    bestValue = Math.max(bestValue, staticEval + this.futilityMargin);
+                    this.pruningCounts[Pruning.FUTILITY_PRUNING.ordinal()]++;
+                    continue;
+                }
+
+                // the first move gets the full window, the rest only have to prove they are worse
+                if (legalMoves++ == 0) {
+                    currentValue = -alphaBeta(board, depth - 1, ply + 1, -beta, -currentAlpha, true);
+                } else {
+                    int reduction = 0;
+
+                    // Late move reductions, quiet moves this far down the ordering rarely matter
+                    if (isQuiet && !isInCheck && depth >= LATE_MOVE_DEPTH && legalMoves > LATE_MOVE_INDEX &&
+                            this.pruning.contains(Pruning.LATE_MOVE_REDUCTIONS)) {
+                        reduction = legalMoves > VERY_LATE_MOVE_INDEX && !isPvNode ? 2 : 1;
+                        this.pruningCounts[Pruning.LATE_MOVE_REDUCTIONS.ordinal()]++;
+                    }
+                    currentValue = -alphaBeta(board, depth - 1 - reduction, ply + 1, -currentAlpha - 1, -currentAlpha, true);
+
+                    // a reduced move that beats alpha gets its full depth back
+                    if (reduction > 0 && currentValue > currentAlpha) {
+                        currentValue = -alphaBeta(board, depth - 1, ply + 1, -currentAlpha - 1, -currentAlpha, true);
+                    }
+                    if (currentValue > currentAlpha && currentValue < beta) {
+                        currentValue = -alphaBeta(board, depth - 1, ply + 1, -beta, -currentAlpha, true);
+                    }
+                }
+                board.unmakeMove();
+
+                // the value is garbage, it must not reach the line or the killer and history tables
+                if (this.isAborted) {
+                    return 0;
+                }
+
+                if(currentValue > bestValue){
+                    bestValue = currentValue;
+                    bestMove = move;
+
+                    if(currentValue > currentAlpha){
+                        currentAlpha = currentValue;
+                        updatePrincipalVariation(ply, move);
+
+                        if(currentAlpha >= beta){
+                            this.moveOrdering.recordCutoff(bestMove, ply, depth);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        // game over
+        if (legalMoves == 0) {
+            return gameOverScore(board, ply);
+        }
+        // the scores of an aborted search are garbage
+        if (!this.isAborted) {
+            final int bound = bestValue >= beta ? TranspositionTable.LOWER_BOUND :
+                              bestValue <= alpha ? TranspositionTable.UPPER_BOUND : TranspositionTable.EXACT;
+            this.transpositionTable.store(zobristKey, depth, bound, scoreToTable(bestValue, ply), bestMove);
+        }
+        return bestValue;
+    }
+
+    // Every node counts towards the next look at the clock, quiescence nodes included
+    private boolean countNode() {
+        if ((++this.nodes & CLOCK_CHECK_MASK) == 0 && this.canAbort &&
+                (this.stopSignal.get() || System.currentTimeMillis() >= this.hardDeadline)) {
+            this.isAborted = true;
+        }
+        return this.isAborted;
+    }
+
+    // Plays out captures and promotions until the position is quiet enough to evaluate, one move buffer
+    // per ply. Delta pruning ties the score to the window, a search that must repeat itself leaves it off.
+    static int quiescence(final SearchBoard board, final int ply, final int alpha, final int beta,
+                          final BoardEvaluator boardEvaluator, final MoveOrdering moveOrdering,
+                          final IntMoveList[] moveBuffers, final NodeCounter nodeCounter,
+                          final boolean isDeltaPruning) {
+        if (ply >= MoveOrdering.MAX_PLY - 1) {
+            return evaluate(boardEvaluator, board);
+        }
+        // in check there is no standing pat, every evasion is searched and having none is mate
+        final boolean isInCheck = board.isInCheck(board.getSideToMove());
+        final int standPat = isInCheck ? -INFINITY : evaluate(boardEvaluator, board);
+
+        // the side to move can always decline the captures
+        if (standPat >= beta) {
+            return standPat;
+        }
+        // not even winning a queen would reach alpha
+        if (!isInCheck && isDeltaPruning && standPat + QUEEN_VALUE + DELTA_MARGIN < alpha) {
+            return standPat;
+        }
+        final IntMoveList moves = moveBuffers[ply];
+        if (isInCheck) {
+            board.generateMoves(moves);
+        } else {
+            board.generateTacticalMoves(moves);
+        }
+        moveOrdering.orderMoves(moves, IntMove.NULL_MOVE, ply);
+
+        int bestValue = standPat;
+        int currentAlpha = Math.max(alpha, standPat);
+        int legalMoves = 0;
+
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moves.get(i);
+
+            // delta pruning, skip captures that cannot lift the score to alpha
+            if (!isInCheck && isDeltaPruning && !IntMove.isPromotion(move) &&
+                    standPat + capturedValue(move) + DELTA_MARGIN <= currentAlpha) {
+                continue;
+            }
+            if (board.makeMove(move)) {
+                legalMoves++;
+                if (nodeCounter.countNode()) {
+                    board.unmakeMove();
+                    return 0;
+                }
+                final int currentValue = -quiescence(board, ply + 1, -beta, -currentAlpha, boardEvaluator,
+                                                     moveOrdering, moveBuffers, nodeCounter, isDeltaPruning);
+                board.unmakeMove();
+
+                if (currentValue > bestValue) {
+                    bestValue = currentValue;
+
+                    if (currentValue > currentAlpha) {
+                        currentAlpha = currentValue;
+
+                        if (currentAlpha >= beta) {
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        if (isInCheck && legalMoves == 0) {
+            return gameOverScore(board, ply);
+        }
+        return bestValue;
+    }
+
+    // Evaluation from the side to move's point of view
+    static int evaluate(final BoardEvaluator boardEvaluator, final SearchBoard board) {
+        final int score = boardEvaluator.evaluate(board, 0);
+        return board.getSideToMove().isWhite() ? score : -score;
+    }
+
+    private static int capturedValue(final int move) {
+        final int capturedPiece = IntMove.getCapturedPiece(move);
+        return capturedPiece == BoardUtils.NO_PIECE ? 0 : SearchBoard.getPieceType(capturedPiece).getPieceValue();
+    }
+
+    // Score of a node without legal moves, mated or stalemated
+    static int gameOverScore(final SearchBoard board, final int ply) {
+        return board.isInCheck(board.getSideToMove()) ? ply - MATE : 0;
+    }
+
+    // Mates are stored as the distance from the node, so the entry holds at any ply
+    static int scoreToTable(final int score, final int ply) {
+        if (score >= MATE_THRESHOLD) {
+            return score + ply;
+        }
+        return score <= -MATE_THRESHOLD ? score - ply : score;
+    }
+
+    static int scoreFromTable(final int score, final int ply) {
+        if (score >= MATE_THRESHOLD) {
+            return score - ply;
+        }
+        return score <= -MATE_THRESHOLD ? score + ply : score;
+    }
+
+    // the move followed by the best line of the child
+    private void updatePrincipalVariation(final int ply, final int move) {
+        final int[] line = this.pvTable[ply];
+        final int[] childLine = this.pvTable[ply + 1];
+        line[ply] = move;
+
+        for (int i = ply + 1; i < this.pvLength[ply + 1]; i++) {
+            line[i] = childLine[i];
+        }
+        this.pvLength[ply] = Math.max(this.pvLength[ply + 1], ply + 1);
+    }
+
+    // Plays the line out on real boards, stopping at the first move that is not legal there
+    private static List<Move> decodeLine(final Board board, final IntMoveList line) {
+        final List<Move> moves = new ArrayList<>();
+        Board currentBoard = board;
+
+        for (int i = 0; i < line.size(); i++) {
+            final Move move = Move.MoveFactory.createMove(currentBoard, line.get(i));
+            final MoveTransition transition = currentBoard.currentPlayer().makeMove(move);
+
+            if (!transition.getMoveStatus().isDone()) {
+                break;
+            }
+            moves.add(move);
+            currentBoard = transition.getToBoard();
+        }
+        return Collections.unmodifiableList(moves);
+    }
+
+    private static void moveToFront(final IntMoveList moves, final int move) {
+        for (int i = 0; i < moves.size(); i++) {
+            if (moves.get(i) == move) {
+                moves.swap(0, i);
+                return;
+            }
+        }
+    }
+
+    // the search board rejects moves that leave the king in check
+    static IntMoveList legalRootMoves(final Board board, final SearchBoard searchBoard) {
+        final IntMoveList candidates = board.currentPlayer().getLegalMoveList();
+        final IntMoveList rootMoves = new IntMoveList();
+
+        for (int i = 0; i < candidates.size(); i++) {
+            if (searchBoard.makeMove(candidates.get(i))) {
+                searchBoard.unmakeMove();
+                rootMoves.add(candidates.get(i));
+            }
+        }
+        return rootMoves;
+    }
+
+    private static long deadline(final long startTime, final long limit) {
+        return limit == Long.MAX_VALUE ? Long.MAX_VALUE : startTime + limit;
+    }
+}
@@ -1,8 +1,15 @@
 package com.chess.engine.player.ai;
 
 import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
 
+// White relative scores of quiet material and positional terms, mate and stalemate are left to the search
 public interface BoardEvaluator {
 
     int evaluate(Board board, int depth);
+
+    int evaluate(SearchBoard board, int depth);
+
+    // The most a quiet move is expected to gain in score, the search prunes against it near the horizon
+    int getFutilityMargin();
 }
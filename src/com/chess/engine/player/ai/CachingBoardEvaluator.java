@@ -0,0 +1,86 @@
+/* WRAPS AN EVALUATOR WITH A LOSSY CACHE OF SCORES BY POSITION HASH */
+
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+
+public final class CachingBoardEvaluator implements BoardEvaluator {
+
+    // mixed into the key so an evaluator that looks at the depth is never handed another depth's score
+    private static final long DEPTH_KEY = 0x9E3779B97F4A7C15L;
+
+    private final BoardEvaluator boardEvaluator;
+    // scores are kept above a set low bit, so a score of 0 is not taken for an empty slot
+    private final DirectMappedTable table;
+
+    public CachingBoardEvaluator(final BoardEvaluator boardEvaluator, final int megabytes) {
+        this.boardEvaluator = boardEvaluator;
+        this.table = new DirectMappedTable(megabytes);
+    }
+
+    @Override
+    public int evaluate(final SearchBoard board, final int depth) {
+        final long key = board.getZobristKey() ^ (depth * DEPTH_KEY);
+        final long entry = this.table.probe(key);
+
+        if (entry != 0L) {
+            return getScore(entry);
+        }
+        final int score = this.boardEvaluator.evaluate(board, depth);
+        this.table.store(key, toEntry(score));
+        return score;
+    }
+
+    @Override
+    public int evaluate(final Board board, final int depth) {
+        final long key = board.getZobristKey() ^ (depth * DEPTH_KEY);
+        final long entry = this.table.probe(key);
+
+        if (entry != 0L) {
+            return getScore(entry);
+        }
+        final int score = this.boardEvaluator.evaluate(board, depth);
+        this.table.store(key, toEntry(score));
+        return score;
+    }
+
+    @Override
+    public int getFutilityMargin() {
+        return this.boardEvaluator.getFutilityMargin();
+    }
+
+    public void clear() {
+        this.table.clear();
+    }
+
+    public long getProbes() {
+        return this.table.getProbes();
+    }
+
+    public long getHits() {
+        return this.table.getHits();
+    }
+
+    // Hit rate in per mille of all probes
+    public int getHitRate() {
+        return this.table.getHitRate();
+    }
+
+    public int getCapacity() {
+        return this.table.getCapacity();
+    }
+
+    @Override
+    public String toString() {
+        return "eval hits " + getHitRate() / 10.0 + "%";
+    }
+
+    private static long toEntry(final int score) {
+        return ((long) score << 1) | 1L;
+    }
+
+    private static int getScore(final long entry) {
+        return (int) (entry >> 1);
+    }
+}
@@ -0,0 +1,78 @@
+/* ONE SLOT PER INDEX TABLE OF LONG ENTRIES, SHARED BY SEARCH THREADS WITHOUT LOCKS */
+
+package com.chess.engine.player.ai;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// The newest store always takes the slot. Each key is stored XORed with its entry, so a slot torn by another
+// thread's write no longer matches and reads as a miss. An empty slot reads as 0, so no entry may be 0.
+final class DirectMappedTable {
+
+    private static final int ENTRY_BYTES = 16;
+
+    private final long[] keys;
+    private final long[] entries;
+    private final int mask;
+    private final LongAdder probes;
+    private final LongAdder hits;
+
+    DirectMappedTable(final int megabytes) {
+        final long size = Math.max((megabytes * 1024L * 1024L) / ENTRY_BYTES, 1);
+        final int capacity = Integer.highestOneBit((int) Math.min(size, 1 << 26));
+        this.keys = new long[capacity];
+        this.entries = new long[capacity];
+        this.mask = capacity - 1;
+        this.probes = new LongAdder();
+        this.hits = new LongAdder();
+    }
+
+    // The entry stored for the key, 0 on a miss
+    long probe(final long key) {
+        final int index = index(key);
+        final long entry = this.entries[index];
+        this.probes.increment();
+
+        if (entry != 0L && (this.keys[index] ^ entry) == key) {
+            this.hits.increment();
+            return entry;
+        }
+        return 0L;
+    }
+
+    void store(final long key, final long entry) {
+        final int index = index(key);
+        this.entries[index] = entry;
+        this.keys[index] = key ^ entry;
+    }
+
+    void clear() {
+        for (int i = 0; i < this.keys.length; i++) {
+            this.keys[i] = 0L;
+            this.entries[i] = 0L;
+        }
+        this.probes.reset();
+        this.hits.reset();
+    }
+
+    long getProbes() {
+        return this.probes.sum();
+    }
+
+    long getHits() {
+        return this.hits.sum();
+    }
+
+    // Hit rate in per mille of all probes
+    int getHitRate() {
+        final long probeCount = getProbes();
+        return probeCount == 0 ? 0 : (int) (getHits() * 1000 / probeCount);
+    }
+
+    int getCapacity() {
+        return this.entries.length;
+    }
+
+    private int index(final long key) {
+        return (int) (key ^ (key >>> 32)) & this.mask;
+    }
+}
@@ -0,0 +1,108 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Lazy SMP, every thread searches the same root and they only talk through the shared transposition table
+public class LazySMP implements MoveStrategy {
+
+    private final int threadCount;
+    private final TranspositionTable transpositionTable;
+    private final AtomicBoolean stopSignal;
+    private final List<AlphaBeta> searchers;
+
+    public LazySMP(final int depth, final int threadCount, final TimeControl timeControl,
+                   final TranspositionTable transpositionTable) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1, not " + threadCount);
+        }
+        this.threadCount = threadCount;
+        this.transpositionTable = transpositionTable;
+        this.stopSignal = new AtomicBoolean();
+        this.searchers = new ArrayList<>();
+
+        // helpers run without a clock, the main search stops them when it is done
+        for (int i = 0; i < threadCount; i++) {
+            this.searchers.add(new AlphaBeta(depth, i == 0 ? timeControl : TimeControl.NONE, transpositionTable,
+                                             EnumSet.allOf(Pruning.class), this.stopSignal, i));
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        return "LazySMP " + this.threadCount + " threads";
+    }
+
+    // Only the main thread reports, so the switch goes to it
+    public void setReporting(final boolean isReporting) {
+        this.searchers.get(0).setReporting(isReporting);
+    }
+
+    // Asks every thread to stop, the move of the main thread's last completed iteration is returned
+    public void stop() {
+        this.stopSignal.set(true);
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        final AlphaBeta mainSearch = this.searchers.get(0);
+        final List<Thread> helpers = new ArrayList<>();
+
+        // every thread must see the cleared signal and the new table generation before it starts
+        this.stopSignal.set(false);
+        this.transpositionTable.newSearch();
+
+        for (int i = 1; i < this.threadCount; i++) {
+            final AlphaBeta helper = this.searchers.get(i);
+            final Thread thread = new Thread(() -> helper.execute(board), "LazySMP helper " + i);
+            thread.setDaemon(true);
+            helpers.add(thread);
+            thread.start();
+        }
+
+        final Move bestMove;
+        try {
+            bestMove = mainSearch.execute(board);
+        } finally {
+            this.stopSignal.set(true);
+            for (final Thread thread : helpers) {
+                joinUninterruptibly(thread);
+            }
+        }
+        return bestMove;
+    }
+
+    public List<Move> getPrincipalVariation() {
+        return this.searchers.get(0).getPrincipalVariation();
+    }
+
+    // Nodes searched by all threads in the last search
+    public long getNodes() {
+        long nodes = 0;
+        for (final AlphaBeta searcher : this.searchers) {
+            nodes += searcher.getNodes();
+        }
+        return nodes;
+    }
+
+    private static void joinUninterruptibly(final Thread thread) {
+        boolean isInterrupted = false;
+        while (true) {
+            try {
+                thread.join();
+                break;
+            } catch (final InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
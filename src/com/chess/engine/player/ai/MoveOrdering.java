@@ -0,0 +1,135 @@
+/* ORDERS MOVES SO ALPHA-BETA SEARCHES THE LIKELY BEST ONES FIRST */
+
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.IntMove;
+import com.chess.engine.board.IntMoveList;
+import com.chess.engine.board.SearchBoard;
+
+public final class MoveOrdering {
+
+    public static final int MAX_PLY = 128;
+
+    // hash move, then captures and promotions, then killers, then quiet moves by history
+    private static final int HASH_MOVE_SCORE = 1 << 30;
+    private static final int CAPTURE_SCORE = 1 << 20;
+    private static final int FIRST_KILLER_SCORE = CAPTURE_SCORE - 1;
+    private static final int SECOND_KILLER_SCORE = CAPTURE_SCORE - 2;
+    private static final int HISTORY_LIMIT = CAPTURE_SCORE / 2;
+    private static final int PROMOTION_VALUE = 900;
+
+    private final int[][] killers;
+    private final int[][] history;
+    private final int[][] scores;
+
+    public MoveOrdering() {
+        this.killers = new int[MAX_PLY][2];
+        this.history = new int[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+        this.scores = new int[MAX_PLY][IntMoveList.MAX_MOVES];
+    }
+
+    // Killers belong to one search, history is halved so older searches still count a little
+    public void newSearch() {
+        for (final int[] plyKillers : this.killers) {
+            plyKillers[0] = IntMove.NULL_MOVE;
+            plyKillers[1] = IntMove.NULL_MOVE;
+        }
+        ageHistory();
+    }
+
+    public void orderMoves(final IntMoveList moves, final int hashMove, final int ply) {
+        final int[] moveScores = this.scores[Math.min(ply, MAX_PLY - 1)];
+
+        for (int i = 0; i < moves.size(); i++) {
+            moveScores[i] = scoreMove(moves.get(i), hashMove, ply);
+        }
+
+        // insertion sort, best first, lists are short and often nearly sorted
+        for (int i = 1; i < moves.size(); i++) {
+            final int move = moves.get(i);
+            final int score = moveScores[i];
+            int j = i - 1;
+
+            while (j >= 0 && moveScores[j] < score) {
+                moves.set(j + 1, moves.get(j));
+                moveScores[j + 1] = moveScores[j];
+                j--;
+            }
+            moves.set(j + 1, move);
+            moveScores[j + 1] = score;
+        }
+    }
+
+    // A quiet move that caused a beta cutoff becomes a killer for its ply and gains history
+    public void recordCutoff(final int move, final int ply, final int depth) {
+        if (isTactical(move) || ply >= MAX_PLY) {
+            return;
+        }
+        final int[] plyKillers = this.killers[ply];
+        if (plyKillers[0] != move) {
+            plyKillers[1] = plyKillers[0];
+            plyKillers[0] = move;
+        }
+
+        final int[] fromHistory = this.history[IntMove.getCurrentCoordinate(move)];
+        final int to = IntMove.getDestinationCoordinate(move);
+        fromHistory[to] += depth * depth;
+        if (fromHistory[to] > HISTORY_LIMIT) {
+            ageHistory();
+        }
+    }
+
+    public int scoreMove(final int move, final int hashMove, final int ply) {
+        if (move == hashMove) {
+            return HASH_MOVE_SCORE;
+        }
+        if (isTactical(move)) {
+            return CAPTURE_SCORE + mvvLva(move);
+        }
+        if (ply < MAX_PLY) {
+            if (move == this.killers[ply][0]) {
+                return FIRST_KILLER_SCORE;
+            }
+            if (move == this.killers[ply][1]) {
+                return SECOND_KILLER_SCORE;
+            }
+        }
+        return this.history[IntMove.getCurrentCoordinate(move)][IntMove.getDestinationCoordinate(move)];
+    }
+
+    public int getKiller(final int ply, final int slot) {
+        return this.killers[ply][slot];
+    }
+
+    public int getHistory(final int move) {
+        return this.history[IntMove.getCurrentCoordinate(move)][IntMove.getDestinationCoordinate(move)];
+    }
+
+    // Most valuable victim first, least valuable attacker breaks ties
+    private static int mvvLva(final int move) {
+        final int attackerValue = SearchBoard.getPieceType(IntMove.getMovedPiece(move)).getPieceValue();
+        final int capturedPiece = IntMove.getCapturedPiece(move);
+        int score = 0;
+
+        if (capturedPiece != BoardUtils.NO_PIECE) {
+            score += SearchBoard.getPieceType(capturedPiece).getPieceValue() * 10;
+        }
+        if (IntMove.isPromotion(move)) {
+            score += PROMOTION_VALUE * 10;
+        }
+        return score - attackerValue / 10;
+    }
+
+    private static boolean isTactical(final int move) {
+        return IntMove.isAttack(move) || IntMove.isPromotion(move);
+    }
+
+    private void ageHistory() {
+        for (final int[] fromHistory : this.history) {
+            for (int i = 0; i < fromHistory.length; i++) {
+                fromHistory[i] /= 2;
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.chess.engine.player.ai;
+
+// Told about every node a shared search helper visits, and how it learns that the search has to stop
+interface NodeCounter {
+
+    // Counts one node, true once the search is stopped and its scores are garbage
+    boolean countNode();
+}
@@ -0,0 +1,70 @@
+/* FIXED SIZE TABLE OF PAWN STRUCTURE SCORES KEYED ON THE PAWNS ALONE */
+
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.board.Zobrist;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public final class PawnHashTable {
+
+    // a structure worth nothing packs to 0, so stored entries carry this bit, which PawnStructure leaves free
+    private static final long PRESENT = 1L << 63;
+
+    private final DirectMappedTable table;
+
+    public PawnHashTable(final int megabytes) {
+        this.table = new DirectMappedTable(megabytes);
+    }
+
+    // The PawnStructure entry of the board's pawns, worked out and stored on a miss
+    public long probe(final SearchBoard board) {
+        return probe(board.getPawnKey(), board.getPieceBitboard(Alliance.WHITE, PieceType.PAWN),
+                     board.getPieceBitboard(Alliance.BLACK, PieceType.PAWN));
+    }
+
+    public long probe(final Board board) {
+        final long whitePawns = board.getPieceBitboard(Alliance.WHITE, PieceType.PAWN);
+        final long blackPawns = board.getPieceBitboard(Alliance.BLACK, PieceType.PAWN);
+        return probe(Zobrist.pawnKey(whitePawns, blackPawns), whitePawns, blackPawns);
+    }
+
+    private long probe(final long pawnKey, final long whitePawns, final long blackPawns) {
+        final long entry = this.table.probe(pawnKey);
+
+        if (entry != 0L) {
+            return entry & ~PRESENT;
+        }
+        final long newEntry = PawnStructure.evaluate(whitePawns, blackPawns);
+        this.table.store(pawnKey, newEntry | PRESENT);
+        return newEntry;
+    }
+
+    public void clear() {
+        this.table.clear();
+    }
+
+    public long getProbes() {
+        return this.table.getProbes();
+    }
+
+    public long getHits() {
+        return this.table.getHits();
+    }
+
+    // Hit rate in per mille of all probes
+    public int getHitRate() {
+        return this.table.getHitRate();
+    }
+
+    public int getCapacity() {
+        return this.table.getCapacity();
+    }
+
+    @Override
+    public String toString() {
+        return "pawn hits " + getHitRate() / 10.0 + "%";
+    }
+}
@@ -0,0 +1,193 @@
+/* PAWN STRUCTURE TERMS, SCORED FROM THE PAWNS ALONE SO THEY CAN BE HASHED */
+
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BoardUtils;
+
+public final class PawnStructure {
+
+    // middlegame and endgame weights
+    private static final int DOUBLED_MIDDLEGAME = -10;
+    private static final int DOUBLED_ENDGAME = -20;
+    private static final int ISOLATED_MIDDLEGAME = -10;
+    private static final int ISOLATED_ENDGAME = -15;
+    private static final int BACKWARD_MIDDLEGAME = -8;
+    private static final int BACKWARD_ENDGAME = -10;
+    // passed pawn bonus by rank counted from its own side
+    private static final int[] PASSED_MIDDLEGAME = {0, 5, 10, 15, 25, 40, 60, 0};
+    private static final int[] PASSED_ENDGAME = {0, 10, 20, 35, 55, 80, 110, 0};
+    // shield pawns one and two ranks in front of a castled king, middlegame only
+    private static final int SHIELD_NEAR = 10;
+    private static final int SHIELD_FAR = 5;
+
+    // entry layout: middlegame 0-15, endgame 16-31, shields of 8 bits for
+    // white king side, white queen side, black king side, black queen side,
+    // a shield never passes 45 so bit 63 stays clear for the pawn hash
+    private static final int SCORE_BITS = 16;
+    private static final int SHIELD_BITS = 8;
+    private static final long SHIELD_MASK = 0xFF;
+
+    private static final long FILE_A = 0x0101010101010101L;
+    private static final long[] FILE_MASKS = initFileMasks();
+    private static final long[] ADJACENT_FILE_MASKS = initAdjacentFileMasks();
+    // squares ahead of a pawn on its own and the adjacent files, any enemy pawn there stops it being passed
+    private static final long[][] PASSED_MASKS = {initPassedMasks(Alliance.WHITE), initPassedMasks(Alliance.BLACK)};
+    // squares beside and behind a pawn, a friendly pawn there can still defend it
+    private static final long[][] SUPPORT_MASKS = {initSupportMasks(Alliance.WHITE), initSupportMasks(Alliance.BLACK)};
+
+    private PawnStructure() {
+        throw new RuntimeException("YOU CANT DO THAT");
+    }
+
+    // White relative scores of the structure, packed into one entry for the pawn hash
+    public static long evaluate(final long whitePawns, final long blackPawns) {
+        int middlegameScore = 0;
+        int endgameScore = 0;
+
+        for (final Alliance alliance : Alliance.values()) {
+            final long ownPawns = alliance.isWhite() ? whitePawns : blackPawns;
+            final long enemyPawns = alliance.isWhite() ? blackPawns : whitePawns;
+            final long enemyAttacks = pawnAttacks(enemyPawns, alliance.isWhite() ? Alliance.BLACK : Alliance.WHITE);
+            final int sign = alliance.isWhite() ? 1 : -1;
+
+            for (int file = 0; file < BoardUtils.NUM_TILES_PER_ROW; file++) {
+                final int count = Long.bitCount(ownPawns & FILE_MASKS[file]);
+                if (count > 1) {
+                    middlegameScore += sign * DOUBLED_MIDDLEGAME * (count - 1);
+                    endgameScore += sign * DOUBLED_ENDGAME * (count - 1);
+                }
+            }
+
+            long remaining = ownPawns;
+            while (remaining != 0) {
+                final int square = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                final int file = square & 7;
+
+                if ((ownPawns & ADJACENT_FILE_MASKS[file]) == 0) {
+                    middlegameScore += sign * ISOLATED_MIDDLEGAME;
+                    endgameScore += sign * ISOLATED_ENDGAME;
+                } else if ((ownPawns & SUPPORT_MASKS[alliance.ordinal()][square]) == 0 &&
+                           (enemyAttacks & (1L << stopSquare(square, alliance))) != 0) {
+                    middlegameScore += sign * BACKWARD_MIDDLEGAME;
+                    endgameScore += sign * BACKWARD_ENDGAME;
+                }
+                if ((enemyPawns & PASSED_MASKS[alliance.ordinal()][square]) == 0) {
+                    final int rank = relativeRank(square, alliance);
+                    middlegameScore += sign * PASSED_MIDDLEGAME[rank];
+                    endgameScore += sign * PASSED_ENDGAME[rank];
+                }
+            }
+        }
+        return pack(middlegameScore, endgameScore,
+                    shield(whitePawns, Alliance.WHITE, 5), shield(whitePawns, Alliance.WHITE, 0),
+                    shield(blackPawns, Alliance.BLACK, 5), shield(blackPawns, Alliance.BLACK, 0));
+    }
+
+    public static int getMiddlegameScore(final long entry) {
+        return (short) entry;
+    }
+
+    public static int getEndgameScore(final long entry) {
+        return (short) (entry >>> SCORE_BITS);
+    }
+
+    // White relative middlegame bonus for the pawns in front of both kings, a king in the centre gets none
+    public static int getShieldScore(final long entry, final int whiteKingSquare, final int blackKingSquare) {
+        return shieldFor(entry, whiteKingSquare, 0) - shieldFor(entry, blackKingSquare, 2);
+    }
+
+    private static int shieldFor(final long entry, final int kingSquare, final int slot) {
+        final int file = kingSquare & 7;
+        if (file >= 5) {
+            return (int) (entry >>> (2 * SCORE_BITS + slot * SHIELD_BITS)) & (int) SHIELD_MASK;
+        }
+        if (file <= 2) {
+            return (int) (entry >>> (2 * SCORE_BITS + (slot + 1) * SHIELD_BITS)) & (int) SHIELD_MASK;
+        }
+        return 0;
+    }
+
+    // Pawns on the three files starting at firstFile, one and two ranks up from the king's home rank
+    private static int shield(final long pawns, final Alliance alliance, final int firstFile) {
+        final long files = FILE_MASKS[firstFile] | FILE_MASKS[firstFile + 1] | FILE_MASKS[firstFile + 2];
+        final long nearRank = alliance.isWhite() ? 0xFFL << 48 : 0xFFL << 8;
+        final long farRank = alliance.isWhite() ? 0xFFL << 40 : 0xFFL << 16;
+        return SHIELD_NEAR * Long.bitCount(pawns & files & nearRank) + SHIELD_FAR * Long.bitCount(pawns & files & farRank);
+    }
+
+    private static long pack(final int middlegameScore, final int endgameScore, final int whiteKingSide,
+                             final int whiteQueenSide, final int blackKingSide, final int blackQueenSide) {
+        return (middlegameScore & 0xFFFFL) |
+               ((endgameScore & 0xFFFFL) << SCORE_BITS) |
+               ((long) whiteKingSide << (2 * SCORE_BITS)) |
+               ((long) whiteQueenSide << (2 * SCORE_BITS + SHIELD_BITS)) |
+               ((long) blackKingSide << (2 * SCORE_BITS + 2 * SHIELD_BITS)) |
+               ((long) blackQueenSide << (2 * SCORE_BITS + 3 * SHIELD_BITS));
+    }
+
+    // tile 0 is a8, white pawns move towards lower tiles
+    private static long pawnAttacks(final long pawns, final Alliance alliance) {
+        final long notFileA = ~FILE_A;
+        final long notFileH = ~(FILE_A << 7);
+        if (alliance.isWhite()) {
+            return ((pawns & notFileA) >>> 9) | ((pawns & notFileH) >>> 7);
+        }
+        return ((pawns & notFileA) << 7) | ((pawns & notFileH) << 9);
+    }
+
+    private static int stopSquare(final int square, final Alliance alliance) {
+        return square + 8 * alliance.getDirection();
+    }
+
+    private static int relativeRank(final int square, final Alliance alliance) {
+        final int row = square / BoardUtils.NUM_TILES_PER_ROW;
+        return alliance.isWhite() ? 7 - row : row;
+    }
+
+    private static long[] initFileMasks() {
+        final long[] masks = new long[BoardUtils.NUM_TILES_PER_ROW];
+        for (int file = 0; file < masks.length; file++) {
+            masks[file] = FILE_A << file;
+        }
+        return masks;
+    }
+
+    private static long[] initAdjacentFileMasks() {
+        final long[] masks = new long[BoardUtils.NUM_TILES_PER_ROW];
+        for (int file = 0; file < masks.length; file++) {
+            masks[file] = (file > 0 ? FILE_A << (file - 1) : 0L) | (file < 7 ? FILE_A << (file + 1) : 0L);
+        }
+        return masks;
+    }
+
+    private static long[] initPassedMasks(final Alliance alliance) {
+        final long[] masks = new long[BoardUtils.NUM_TILES];
+        for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+            final long files = (FILE_A << (square & 7)) | ADJACENT_FILE_MASKS[square & 7];
+            masks[square] = files & rowsAhead(square / BoardUtils.NUM_TILES_PER_ROW, alliance);
+        }
+        return masks;
+    }
+
+    private static long[] initSupportMasks(final Alliance alliance) {
+        final long[] masks = new long[BoardUtils.NUM_TILES];
+        for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+            final int row = square / BoardUtils.NUM_TILES_PER_ROW;
+            masks[square] = ADJACENT_FILE_MASKS[square & 7] & ~rowsAhead(row, alliance);
+        }
+        return masks;
+    }
+
+    // every row strictly in front of the given one, from the alliance's side
+    private static long rowsAhead(final int row, final Alliance alliance) {
+        long rows = 0L;
+        for (int r = 0; r < BoardUtils.NUM_TILES_PER_ROW; r++) {
+            if (alliance.isWhite() ? r < row : r > row) {
+                rows |= 0xFFL << (r * BoardUtils.NUM_TILES_PER_ROW);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,10 @@
+package com.chess.engine.player.ai;
+
+// Forward pruning techniques of the alpha-beta search, each one can be switched off on its own
+public enum Pruning {
+
+    NULL_MOVE,
+    LATE_MOVE_REDUCTIONS,
+    FUTILITY_PRUNING,
+    RAZORING
+}
@@ -1,27 +1,50 @@
 package com.chess.engine.player.ai;
 
+import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.player.Player;
 
 public final class StandardBoardEvaluator implements BoardEvaluator {
 
     private static final int CHECK_BONUS = 50;
-    private static final int CHECKMATE_BONUS = 10000;
-    private static final int DEPTH_BONUS = 100;
     private static final int CASTLE_BONUS = 60;
+    // a quiet move that gives no check only shifts the mobility of the two sides
+    private static final int FUTILITY_MARGIN = 100;
 
     @Override
     public int evaluate(final Board board, final int depth) {
-        return scorePlayer(board, board.whitePlayer(), depth) - scorePlayer(board, board.blackPlayer(), depth);
+        return scorePlayer(board.whitePlayer()) - scorePlayer(board.blackPlayer());
 
     }
 
-    private int scorePlayer(final Board board, final Player player, final int depth) {
+    @Override
+    public int evaluate(final SearchBoard board, final int depth) {
+        return scoreAlliance(board, Alliance.WHITE) - scoreAlliance(board, Alliance.BLACK);
+    }
+
+    @Override
+    public int getFutilityMargin() {
+        return FUTILITY_MARGIN;
+    }
+
+    // Material, pseudo legal mobility and the check bonus, as scorePlayer counts them. The search board
+    // has no castled flag, which costs nothing while Player.isCastled never reports a castled king
+    private int scoreAlliance(final SearchBoard board, final Alliance alliance) {
+        final Alliance opponent = alliance.isWhite() ? Alliance.BLACK : Alliance.WHITE;
+        int score = pieceValue(board, alliance) + board.countMoves(alliance);
+
+        if(board.isInCheck(opponent)){
+            score += CHECK_BONUS;
+        }
+        return score;
+    }
+
+    private int scorePlayer(final Player player) {
 
         return pieceValue(player) + mobility(player) +
                                     check(player) +
-                                    checkMate(player,depth) +
                                     castled(player);
 
 
@@ -44,26 +67,10 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
         }
     }
 
-    private static int checkMate(Player player, int depth){
-        if(player.getOpponent().isInCheckMate()){
-            return CHECKMATE_BONUS * depthFactor(depth);
-        }else{
-            return 0;
-        }
-    }
-
-    private static int depthFactor(int depth) {
-        if(depth == 0){
-            return 1;
-        }else{
-            return DEPTH_BONUS * depth;
-        }
-    }
-
     private static int mobility(final Player player) {
         //int scaleingFactor = 0;
 
-        return player.getLegalMoves().size();
+        return player.getLegalMoveList().size();
     }
 
     private static int pieceValue(final Player player) {
@@ -75,5 +82,14 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
         return pieceValueScore;
     }
 
+    private static int pieceValue(final SearchBoard board, final Alliance alliance) {
+        int pieceValueScore = 0;
+
+        for (final Piece.PieceType pieceType : Piece.PieceType.values()){
+            pieceValueScore += Long.bitCount(board.getPieceBitboard(alliance, pieceType)) * pieceType.getPieceValue();
+        }
+        return pieceValueScore;
+    }
+
 
 }
@@ -0,0 +1,69 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.PieceSquareTables;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.pieces.Piece;
+
+// Material, piece squares and pawn structure blended between middlegame and endgame by the pieces left on the board
+public final class TaperedBoardEvaluator implements BoardEvaluator {
+
+    private static final int DEFAULT_PAWN_HASH_MEGABYTES = 1;
+    // a quiet move shifts the piece square and pawn terms by well under a minor piece
+    private static final int FUTILITY_MARGIN = 300;
+
+    private final PawnHashTable pawnHashTable;
+
+    public TaperedBoardEvaluator() {
+        this(new PawnHashTable(DEFAULT_PAWN_HASH_MEGABYTES));
+    }
+
+    public TaperedBoardEvaluator(final PawnHashTable pawnHashTable) {
+        this.pawnHashTable = pawnHashTable;
+    }
+
+    public PawnHashTable getPawnHashTable() {
+        return this.pawnHashTable;
+    }
+
+    // The search board keeps the sums as it moves and the pawns are hashed, so only the blend is left to do
+    @Override
+    public int evaluate(final SearchBoard board, final int depth) {
+        final long pawnEntry = this.pawnHashTable.probe(board);
+        final int shieldScore = PawnStructure.getShieldScore(pawnEntry,
+                Long.numberOfTrailingZeros(board.getPieceBitboard(Alliance.WHITE, Piece.PieceType.KING)),
+                Long.numberOfTrailingZeros(board.getPieceBitboard(Alliance.BLACK, Piece.PieceType.KING)));
+
+        return PieceSquareTables.taper(board.getMiddlegameScore() + PawnStructure.getMiddlegameScore(pawnEntry) + shieldScore,
+                                       board.getEndgameScore() + PawnStructure.getEndgameScore(pawnEntry),
+                                       board.getPhase());
+    }
+
+    @Override
+    public int evaluate(final Board board, final int depth) {
+        final long pawnEntry = this.pawnHashTable.probe(board);
+        int middlegameScore = PawnStructure.getMiddlegameScore(pawnEntry) + PawnStructure.getShieldScore(pawnEntry,
+                board.whitePlayer().getPlayerKing().getPiecePosition(),
+                board.blackPlayer().getPlayerKing().getPiecePosition());
+        int endgameScore = PawnStructure.getEndgameScore(pawnEntry);
+        int phase = 0;
+
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            final Piece piece = board.getPiece(i);
+
+            if (piece != null) {
+                middlegameScore += PieceSquareTables.middlegame(piece.getPieceCode(), i);
+                endgameScore += PieceSquareTables.endgame(piece.getPieceCode(), i);
+                phase += PieceSquareTables.phase(piece.getPieceCode());
+            }
+        }
+        return PieceSquareTables.taper(middlegameScore, endgameScore, phase);
+    }
+
+    @Override
+    public int getFutilityMargin() {
+        return FUTILITY_MARGIN;
+    }
+}
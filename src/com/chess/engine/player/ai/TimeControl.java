@@ -0,0 +1,53 @@
+package com.chess.engine.player.ai;
+
+// Per move time budget, the soft limit stops new iterations and the hard limit aborts the running one
+public final class TimeControl {
+
+    public static final TimeControl NONE = new TimeControl(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private static final int DEFAULT_MOVES_TO_GO = 30;
+    private static final long MOVE_OVERHEAD = 50;
+
+    private final long softLimit;
+    private final long hardLimit;
+
+    private TimeControl(final long softLimit, final long hardLimit) {
+        this.softLimit = softLimit;
+        this.hardLimit = hardLimit;
+    }
+
+    // A fixed budget per move, half of it is left for the iteration that is already running
+    public static TimeControl moveTime(final long millis) {
+        return new TimeControl(millis / 2, millis);
+    }
+
+    public static TimeControl gameClock(final long remainingMillis, final long incrementMillis) {
+        return gameClock(remainingMillis, incrementMillis, DEFAULT_MOVES_TO_GO);
+    }
+
+    // Spends an even share of the clock plus most of the increment, never more than a quarter of what is left
+    public static TimeControl gameClock(final long remainingMillis, final long incrementMillis, final int movesToGo) {
+        final long usable = Math.max(remainingMillis - MOVE_OVERHEAD, 1);
+        final long budget = usable / Math.max(movesToGo, 1) + incrementMillis * 3 / 4;
+        // the cap comes after the increment, a big increment must not spend a short clock
+        final long maxMoveTime = Math.max(usable / 4, 1);
+        return new TimeControl(Math.min(budget, maxMoveTime), Math.min(budget * 4, maxMoveTime));
+    }
+
+    public long getSoftLimit() {
+        return this.softLimit;
+    }
+
+    public long getHardLimit() {
+        return this.hardLimit;
+    }
+
+    public boolean isLimited() {
+        return this.hardLimit != Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return isLimited() ? "soft " + this.softLimit + " ms, hard " + this.hardLimit + " ms" : "no time limit";
+    }
+}
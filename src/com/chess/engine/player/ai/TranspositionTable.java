@@ -0,0 +1,184 @@
+/* FIXED SIZE TRANSPOSITION TABLE SHARED BY SEARCH THREADS WITHOUT LOCKS */
+
+package com.chess.engine.player.ai;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class TranspositionTable {
+
+    // bound types, 0 marks an empty entry
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+
+    // four entries of two longs fill one 64 byte cache line
+    private static final int BUCKET_SIZE = 4;
+    private static final int ENTRY_BYTES = 16;
+
+    // data layout: score 0-23, move 24-47, depth 48-54, bound 55-56, generation 57-63
+    private static final int SCORE_BITS = 24;
+    private static final int MAX_SCORE = (1 << (SCORE_BITS - 1)) - 1;
+    private static final long SCORE_MASK = (1L << SCORE_BITS) - 1;
+    private static final long MOVE_MASK = 0xFFFFFFL;
+    private static final int DEPTH_MASK = 0x7F;
+    private static final int BOUND_MASK = 0x3;
+    private static final int GENERATION_MASK = 0x7F;
+
+    // every probe of the fill level looks at this many entries
+    private static final int FILL_SAMPLE = 1000;
+
+    // Each key is stored XORed with its data, a torn write from another thread no longer matches
+    private final long[] keys;
+    private final long[] data;
+    private final int bucketMask;
+    private final LongAdder probes;
+    private final LongAdder hits;
+    private volatile int generation;
+
+    public TranspositionTable(final int megabytes) {
+        final long entries = Math.max((megabytes * 1024L * 1024L) / ENTRY_BYTES, BUCKET_SIZE);
+        final int buckets = Integer.highestOneBit((int) Math.min(entries / BUCKET_SIZE, 1 << 26));
+        this.keys = new long[buckets * BUCKET_SIZE];
+        this.data = new long[buckets * BUCKET_SIZE];
+        this.bucketMask = buckets - 1;
+        this.probes = new LongAdder();
+        this.hits = new LongAdder();
+    }
+
+    // Called before each search, entries from older searches are replaced first
+    public void newSearch() {
+        this.generation = (this.generation + 1) & GENERATION_MASK;
+    }
+
+    public void clear() {
+        for (int i = 0; i < this.keys.length; i++) {
+            this.keys[i] = 0L;
+            this.data[i] = 0L;
+        }
+        this.generation = 0;
+        this.probes.reset();
+        this.hits.reset();
+    }
+
+    // The packed entry for the key, 0 when it is not in the table
+    public long probe(final long zobristKey) {
+        final int bucket = bucketIndex(zobristKey);
+        this.probes.increment();
+
+        for (int i = bucket; i < bucket + BUCKET_SIZE; i++) {
+            final long entry = this.data[i];
+            if ((this.keys[i] ^ entry) == zobristKey && entry != 0L) {
+                this.hits.increment();
+                return entry;
+            }
+        }
+        return 0L;
+    }
+
+    public void store(final long zobristKey, final int depth, final int bound, final int score, final int move) {
+        final int bucket = bucketIndex(zobristKey);
+        final int currentGeneration = this.generation;
+        int replace = bucket;
+        int lowestValue = Integer.MAX_VALUE;
+
+        for (int i = bucket; i < bucket + BUCKET_SIZE; i++) {
+            final long entry = this.data[i];
+
+            // same position, keep the old move if this search found none
+            if ((this.keys[i] ^ entry) == zobristKey) {
+                // a shallower bound from another thread must not wipe out a deeper entry of this search
+                if (bound != EXACT && getDepth(entry) > depth && getGeneration(entry) == currentGeneration) {
+                    return;
+                }
+                final int storedMove = move != 0 ? move : getMove(entry);
+                write(i, zobristKey, pack(depth, bound, score, storedMove, currentGeneration));
+                return;
+            }
+            // shallow entries and entries from older searches go first
+            final int age = (currentGeneration - getGeneration(entry)) & GENERATION_MASK;
+            final int value = entry == 0L ? Integer.MIN_VALUE : getDepth(entry) - 8 * age;
+            if (value < lowestValue) {
+                lowestValue = value;
+                replace = i;
+            }
+        }
+        write(replace, zobristKey, pack(depth, bound, score, move, currentGeneration));
+    }
+
+    public static int getScore(final long entry) {
+        return (int) (entry << (64 - SCORE_BITS) >> (64 - SCORE_BITS));
+    }
+
+    public static int getMove(final long entry) {
+        return (int) ((entry >>> 24) & MOVE_MASK);
+    }
+
+    public static int getDepth(final long entry) {
+        return (int) (entry >>> 48) & DEPTH_MASK;
+    }
+
+    public static int getBound(final long entry) {
+        return (int) (entry >>> 55) & BOUND_MASK;
+    }
+
+    private static int getGeneration(final long entry) {
+        return (int) (entry >>> 57) & GENERATION_MASK;
+    }
+
+    public long getProbes() {
+        return this.probes.sum();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    // Hit rate in per mille of all probes
+    public int getHitRate() {
+        final long probeCount = getProbes();
+        return probeCount == 0 ? 0 : (int) (getHits() * 1000 / probeCount);
+    }
+
+    // Per mille of the sampled entries written during the current search
+    public int getFill() {
+        final int sample = Math.min(FILL_SAMPLE, this.data.length);
+        final int currentGeneration = this.generation;
+        int filled = 0;
+
+        for (int i = 0; i < sample; i++) {
+            final long entry = this.data[i];
+            if (entry != 0L && getGeneration(entry) == currentGeneration) {
+                filled++;
+            }
+        }
+        return filled * 1000 / sample;
+    }
+
+    public int getCapacity() {
+        return this.data.length;
+    }
+
+    @Override
+    public String toString() {
+        return "hits " + getHitRate() / 10.0 + "% fill " + getFill() / 10.0 + "%";
+    }
+
+    private int bucketIndex(final long zobristKey) {
+        return (int) ((zobristKey ^ (zobristKey >>> 32)) & this.bucketMask) * BUCKET_SIZE;
+    }
+
+    private void write(final int index, final long zobristKey, final long entry) {
+        this.data[index] = entry;
+        this.keys[index] = zobristKey ^ entry;
+    }
+
+    // scores past the 24 bit range are clamped, only very deep mate bonuses get there
+    private static long pack(final int depth, final int bound, final int score, final int move, final int generation) {
+        final int clampedScore = Math.max(-MAX_SCORE, Math.min(MAX_SCORE, score));
+        return (clampedScore & SCORE_MASK) |
+               ((move & MOVE_MASK) << 24) |
+               ((long) Math.max(Math.min(depth, DEPTH_MASK), 0) << 48) |
+               ((long) bound << 55) |
+               ((long) generation << 57);
+    }
+}
@@ -0,0 +1,312 @@
+/* YOUNG BROTHERS WAIT, A WORK STEALING ALPHA-BETA THAT GIVES THE SAME ANSWER ON ANY NUMBER OF THREADS */
+
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.IntMove;
+import com.chess.engine.board.IntMoveList;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.SearchBoard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// The eldest brother of a node is searched alone, his younger brothers are forked once he has set alpha.
+// There is no table, no killers and no clock, so the move and score depend only on the position and depth.
+public class YoungBrothersWait implements MoveStrategy {
+
+    // below this depth a node is searched on the thread that reached it
+    private static final int MIN_SPLIT_DEPTH = 3;
+
+    private final BoardEvaluator boardEvaluator;
+    private final int searchDepth;
+    private final ForkJoinPool pool;
+    private final LongAdder nodes;
+    private final ThreadLocal<MoveOrdering> moveOrdering;
+    // per thread ply buffers for the nodes that never fork, quiescence included
+    private final ThreadLocal<IntMoveList[]> moveBuffers;
+    private final NodeCounter nodeCounter;
+    private int bestValue;
+
+    public YoungBrothersWait(final int depth) {
+        this(depth, ForkJoinPool.commonPool());
+    }
+
+    public YoungBrothersWait(final int depth, final ForkJoinPool pool) {
+        this.boardEvaluator = new TaperedBoardEvaluator();
+        this.searchDepth = depth;
+        this.pool = pool;
+        this.nodes = new LongAdder();
+        // nothing is ever recorded, so every thread orders by captures alone
+        this.moveOrdering = ThreadLocal.withInitial(MoveOrdering::new);
+        this.moveBuffers = ThreadLocal.withInitial(YoungBrothersWait::newMoveBuffers);
+        this.nodeCounter = () -> {
+            this.nodes.increment();
+            return false;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "YBW";
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        final long startTime = System.currentTimeMillis();
+        final SearchBoard searchBoard = new SearchBoard(board);
+        final IntMoveList rootMoves = AlphaBeta.legalRootMoves(board, searchBoard);
+        this.nodes.reset();
+
+        if (rootMoves.isEmpty()) {
+            return null;
+        }
+        this.moveOrdering.get().orderMoves(rootMoves, IntMove.NULL_MOVE, 0);
+
+        final int bestMove = this.pool.invoke(ForkJoinTask.adapt(() -> searchRoot(searchBoard, rootMoves)));
+        final long executionTime = System.currentTimeMillis() - startTime;
+
+        System.out.println("YBW Move: " + IntMove.toString(bestMove) + " Score: " + this.bestValue +
+                           " Nodes: " + getNodes() + " Time: " + executionTime + " ms");
+        return Move.MoveFactory.createMove(board, bestMove);
+    }
+
+    // Nodes searched by all threads in the last search
+    public long getNodes() {
+        return this.nodes.sum();
+    }
+
+    // Score of the last move returned, from the mover's side
+    public int getBestValue() {
+        return this.bestValue;
+    }
+
+    private int search(final SearchBoard board, final int depth, final int ply, final int alpha, final int beta,
+                       final SplitPoint splitPoint) {
+        this.nodes.increment();
+
+        // a brother further up failed high, whatever is returned from here is thrown away
+        if (splitPoint != null && splitPoint.isCancelled()) {
+            return 0;
+        }
+        if (depth <= 0 || ply >= MoveOrdering.MAX_PLY - 1) {
+            // delta pruning would make a score depend on how far the shared alpha had risen
+            return AlphaBeta.quiescence(board, ply, alpha, beta, this.boardEvaluator, this.moveOrdering.get(),
+                                        this.moveBuffers.get(), this.nodeCounter, false);
+        }
+        // a node that can split keeps its own list, while it waits on brothers its thread may steal work
+        // at any ply, a node below the split depth finishes its whole subtree before the thread steals again
+        final IntMoveList moves = depth >= MIN_SPLIT_DEPTH ? new IntMoveList() : this.moveBuffers.get()[ply];
+        board.generateMoves(moves);
+        this.moveOrdering.get().orderMoves(moves, IntMove.NULL_MOVE, ply);
+
+        // the eldest brother goes first and alone
+        int eldest = 0;
+        int bestValue = -AlphaBeta.INFINITY;
+        while (eldest < moves.size()) {
+            if (board.makeMove(moves.get(eldest))) {
+                bestValue = -search(board, depth - 1, ply + 1, -beta, -alpha, splitPoint);
+                board.unmakeMove();
+                break;
+            }
+            eldest++;
+        }
+        // game over
+        if (eldest == moves.size()) {
+            return AlphaBeta.gameOverScore(board, ply);
+        }
+        if (bestValue >= beta) {
+            return bestValue;
+        }
+        if (depth < MIN_SPLIT_DEPTH) {
+            return searchSerial(board, moves, eldest + 1, depth, ply, Math.max(alpha, bestValue), beta,
+                                bestValue, splitPoint);
+        }
+
+        // the younger brothers are stolen by idle threads, each on its own copy of the board
+        final SplitPoint brothers = new SplitPoint(splitPoint, Math.max(alpha, bestValue));
+        final List<Brother> youngerBrothers = new ArrayList<>();
+        final List<ForkJoinTask<Integer>> tasks = new ArrayList<>();
+        for (int i = eldest + 1; i < moves.size(); i++) {
+            final Brother brother = new Brother(board, moves.get(i), depth - 1, ply + 1, beta, brothers);
+            youngerBrothers.add(brother);
+            tasks.add(ForkJoinTask.adapt(brother));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        for (int i = 0; i < tasks.size(); i++) {
+            final int currentValue = tasks.get(i).join();
+            if (youngerBrothers.get(i).isCounted() && currentValue > bestValue) {
+                bestValue = currentValue;
+            }
+        }
+        return bestValue;
+    }
+
+    private int searchSerial(final SearchBoard board, final IntMoveList moves, final int start, final int depth,
+                             final int ply, final int alpha, final int beta, final int bestSoFar,
+                             final SplitPoint splitPoint) {
+        int bestValue = bestSoFar;
+        int currentAlpha = alpha;
+
+        for (int i = start; i < moves.size(); i++) {
+            if (board.makeMove(moves.get(i))) {
+                final int currentValue = -search(board, depth - 1, ply + 1, -beta, -currentAlpha, splitPoint);
+                board.unmakeMove();
+
+                if (currentValue > bestValue) {
+                    bestValue = currentValue;
+
+                    if (currentValue > currentAlpha) {
+                        currentAlpha = currentValue;
+
+                        if (currentAlpha >= beta) {
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return bestValue;
+    }
+
+    // Root brothers are searched one point below the best alpha, so a tie is scored exactly and the
+    // earliest of the tied moves wins no matter which thread finished first
+    private int searchRoot(final SearchBoard board, final IntMoveList rootMoves) {
+        final int[] values = new int[rootMoves.size()];
+
+        board.makeMove(rootMoves.get(0));
+        values[0] = -search(board, this.searchDepth - 1, 1, -AlphaBeta.INFINITY, AlphaBeta.INFINITY, null);
+        board.unmakeMove();
+
+        final SplitPoint brothers = new SplitPoint(null, values[0]);
+        final List<ForkJoinTask<Integer>> tasks = new ArrayList<>();
+        for (int i = 1; i < rootMoves.size(); i++) {
+            final int move = rootMoves.get(i);
+            tasks.add(ForkJoinTask.adapt(() -> searchRootMove(board, move, brothers)));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        int best = 0;
+        for (int i = 1; i < values.length; i++) {
+            values[i] = tasks.get(i - 1).join();
+            if (values[i] > values[best]) {
+                best = i;
+            }
+        }
+        this.bestValue = values[best];
+        return rootMoves.get(best);
+    }
+
+    private int searchRootMove(final SearchBoard rootBoard, final int move, final SplitPoint brothers) {
+        final SearchBoard board = new SearchBoard(rootBoard);
+        board.makeMove(move);
+        final int alpha = brothers.getAlpha() - 1;
+        final int value = -search(board, this.searchDepth - 1, 1, -AlphaBeta.INFINITY, -alpha, null);
+
+        if (value > alpha) {
+            brothers.raiseAlpha(value);
+        }
+        return value;
+    }
+
+    private static IntMoveList[] newMoveBuffers() {
+        final IntMoveList[] moveBuffers = new IntMoveList[MoveOrdering.MAX_PLY];
+        for (int i = 0; i < moveBuffers.length; i++) {
+            moveBuffers[i] = new IntMoveList();
+        }
+        return moveBuffers;
+    }
+
+    // The alpha shared by a node's younger brothers, and whether one of them already failed high
+    private static final class SplitPoint {
+
+        private final SplitPoint parent;
+        private final AtomicInteger alpha;
+        private volatile boolean isCutoff;
+
+        SplitPoint(final SplitPoint parent, final int alpha) {
+            this.parent = parent;
+            this.alpha = new AtomicInteger(alpha);
+        }
+
+        int getAlpha() {
+            return this.alpha.get();
+        }
+
+        void raiseAlpha(final int value) {
+            this.alpha.accumulateAndGet(value, Math::max);
+        }
+
+        void cutoff() {
+            this.isCutoff = true;
+        }
+
+        boolean isCancelled() {
+            for (SplitPoint splitPoint = this; splitPoint != null; splitPoint = splitPoint.parent) {
+                if (splitPoint.isCutoff) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // One younger brother, its value only counts if it was legal and its node was not cut off meanwhile
+    private final class Brother implements Callable<Integer> {
+
+        private final SearchBoard parentBoard;
+        private final int move;
+        private final int depth;
+        private final int ply;
+        private final int beta;
+        private final SplitPoint brothers;
+        private volatile boolean isCounted;
+
+        Brother(final SearchBoard parentBoard, final int move, final int depth, final int ply, final int beta,
+                    final SplitPoint brothers) {
+            this.parentBoard = parentBoard;
+            this.move = move;
+            this.depth = depth;
+            this.ply = ply;
+            this.beta = beta;
+            this.brothers = brothers;
+        }
+
+        boolean isCounted() {
+            return this.isCounted;
+        }
+
+        @Override
+        public Integer call() {
+            if (this.brothers.isCancelled()) {
+                return 0;
+            }
+            final SearchBoard board = new SearchBoard(this.parentBoard);
+            if (!board.makeMove(this.move)) {
+                return 0;
+            }
+            // the alpha is read late, a brother that finished first may have raised it
+            final int alpha = this.brothers.getAlpha();
+            final int value = -search(board, this.depth, this.ply, -this.beta, -alpha, this.brothers);
+
+            // a search cut short by a brother's cutoff returned garbage
+            if (this.brothers.isCancelled()) {
+                return value;
+            }
+            this.isCounted = true;
+            if (value >= this.beta) {
+                this.brothers.cutoff();
+            } else if (value > alpha) {
+                // an upper bound at or below alpha says nothing the brothers can use
+                this.brothers.raiseAlpha(value);
+            }
+            return value;
+        }
+    }
+}
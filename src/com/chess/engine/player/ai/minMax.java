@@ -1,17 +1,37 @@
 package com.chess.engine.player.ai;
 
 import com.chess.engine.board.Board;
+import com.chess.engine.board.IntMoveList;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.SearchBoard;
 import com.chess.engine.player.MoveTransition;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
 public class minMax implements MoveStrategy {
 
     private final BoardEvaluator boardEvaluator;
     private final int searchDepth;
+    private final ForkJoinPool pool;
 
     public minMax(final int depth) {
-        this.boardEvaluator = new StandardBoardEvaluator();
+        this(depth, null);
+    }
+
+    // With a pool the root moves are searched in parallel, each on its own board
+    public minMax(final int depth, final ForkJoinPool pool) {
+        this(depth, pool, new StandardBoardEvaluator());
+    }
+
+    // Every leaf is evaluated, a caller can wrap the evaluator in a CachingBoardEvaluator
+    // when the same positions come up again through other move orders
+    public minMax(final int depth, final ForkJoinPool pool, final BoardEvaluator boardEvaluator) {
+        this.boardEvaluator = boardEvaluator;
         this.searchDepth = depth;
+        this.pool = pool;
     }
 
     @Override
@@ -24,99 +44,167 @@ public class minMax implements MoveStrategy {
     public Move execute(Board board) {
         final long startTime = System.currentTimeMillis();
         System.out.println(board.currentPlayer() + "Evaluating with depth of: " + this.searchDepth);
-        int numberOfMoves = board.currentPlayer().getLegalMoves().size();
 
-        Move bestMove = null;
+        final Move selectedMove = this.pool != null ? executeParallel(board) : executeSequential(board);
+        final long executionTime = System.currentTimeMillis() - startTime;
+
+        System.out.printf("%s Selects %s : Time Taken: %d", board.currentPlayer().toString(),
+                                                            selectedMove, executionTime);
+        return selectedMove;
+    }
+
+    private Move executeSequential(final Board board) {
+        final IntMoveList legalMoves = board.currentPlayer().getLegalMoveList();
+
+        int bestMove = 0;
+        boolean hasBestMove = false;
         int highestSeenValue = Integer.MIN_VALUE;
         int lowestSeenValue = Integer.MAX_VALUE;
         int currentValue;
 
-        for (final Move move : board.currentPlayer().getLegalMoves()){
-            final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
+        // One move buffer per ply, the tree is walked on a single search board
+        final SearchBoard searchBoard = new SearchBoard(board);
+        final IntMoveList[] moveBuffers = createMoveBuffers(this.searchDepth);
+
+        for (int i = 0; i < legalMoves.size(); i++){
+            final int move = legalMoves.get(i);
 
-            if(moveTransition.getMoveStatus().isDone()){
+            // the search board rejects moves that leave the king in check
+            if(searchBoard.makeMove(move)){
 
                 // Switch between white vs black player for min vs max move
                 if(board.currentPlayer().getAlliance().isWhite()){
-                    currentValue = min(moveTransition.getToBoard(), this.searchDepth-1);
+                    currentValue = min(searchBoard, this.searchDepth-1, moveBuffers);
                 }else{
-                    currentValue = max(moveTransition.getToBoard(), this.searchDepth-1);
+                    currentValue = max(searchBoard, this.searchDepth-1, moveBuffers);
                 }
+                searchBoard.unmakeMove();
 
                 // Minimizing move
                 if(board.currentPlayer().getAlliance().isWhite() && currentValue >= highestSeenValue){
                     highestSeenValue = currentValue;
                     bestMove = move;
+                    hasBestMove = true;
 
                 // Maximizing move
                 } else if(board.currentPlayer().getAlliance().isBlack() && currentValue <= lowestSeenValue){
                     lowestSeenValue =currentValue;
                     bestMove = move;
+                    hasBestMove = true;
                 }
             }
         }
-        final long executionTime = System.currentTimeMillis() - startTime;
+        // only the chosen move is turned back into a move object
+        return hasBestMove ? Move.MoveFactory.createMove(board, bestMove) : null;
+    }
 
-        System.out.printf("%s Selects %s : Time Taken: %d", board.currentPlayer().toString(),
-                                                            bestMove.toString(), executionTime);
+    // Root split, the boards are immutable so every task works on its own copy
+    private Move executeParallel(final Board board) {
+        final IntMoveList legalMoves = board.currentPlayer().getLegalMoveList();
+        final boolean isWhite = board.currentPlayer().getAlliance().isWhite();
+        final List<Move> rootMoves = new ArrayList<>();
+        final List<ForkJoinTask<Integer>> tasks = new ArrayList<>();
+
+        for (int i = 0; i < legalMoves.size(); i++) {
+            final Move move = Move.MoveFactory.createMove(board, legalMoves.get(i));
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+
+            if (transition.getMoveStatus().isDone()) {
+                rootMoves.add(move);
+                tasks.add(this.pool.submit(() -> searchRootMove(transition.getToBoard(), isWhite)));
+            }
+        }
+
+        // reduced in move order with the same tie rule as the sequential search
+        Move bestMove = null;
+        int bestValue = isWhite ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        for (int i = 0; i < tasks.size(); i++) {
+            final int currentValue = tasks.get(i).join();
+
+            if (isWhite ? currentValue >= bestValue : currentValue <= bestValue) {
+                bestValue = currentValue;
+                bestMove = rootMoves.get(i);
+            }
+        }
         return bestMove;
     }
 
+    private int searchRootMove(final Board toBoard, final boolean isWhite) {
+        final SearchBoard searchBoard = new SearchBoard(toBoard);
+        final IntMoveList[] taskBuffers = createMoveBuffers(this.searchDepth);
 
-    public int min(final Board board, final int depth){
-        // game over
-        if(depth == 0 || isEndGameScenario(board)){
+        return isWhite ? min(searchBoard, this.searchDepth - 1, taskBuffers) :
+                         max(searchBoard, this.searchDepth - 1, taskBuffers);
+    }
+
+    // Each call gets its own ply buffers, so calls may overlap and need no search running first
+    public int min(final SearchBoard board, final int depth){
+        return min(board, depth, createMoveBuffers(depth + 1));
+    }
+
+    public int max(final SearchBoard board, final int depth){
+        return max(board, depth, createMoveBuffers(depth + 1));
+    }
+
+    private int min(final SearchBoard board, final int depth, final IntMoveList[] moveBuffers){
+        if(depth <= 0){
             return this.boardEvaluator.evaluate(board, depth);
         }
+        final IntMoveList moves = moveBuffers[depth];
+        board.generateMoves(moves);
         int lowestSeenValue = Integer.MAX_VALUE;
+        boolean hasLegalMove = false;
 
-        for(final Move move : board.currentPlayer().getLegalMoves()){
-            final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-
-            if(moveTransition.getMoveStatus().isDone()){
-                final int currentValue = max(moveTransition.getToBoard(), depth-1);
+        for(int i = 0; i < moves.size(); i++){
+            if(board.makeMove(moves.get(i))){
+                final int currentValue = max(board, depth-1, moveBuffers);
+                board.unmakeMove();
+                hasLegalMove = true;
 
                 if(currentValue <= lowestSeenValue){
                     lowestSeenValue =  currentValue;
                 }
             }
         }
-        return lowestSeenValue;
+        return hasLegalMove ? lowestSeenValue : gameOverScore(board, depth);
     }
 
-
-    public int max(final Board board, final int depth){
-        // game over
-        if(depth == 0 || isEndGameScenario(board)){
+    private int max(final SearchBoard board, final int depth, final IntMoveList[] moveBuffers){
+        if(depth <= 0){
             return this.boardEvaluator.evaluate(board, depth);
         }
+        final IntMoveList moves = moveBuffers[depth];
+        board.generateMoves(moves);
         int highestSeenValue = Integer.MIN_VALUE;
+        boolean hasLegalMove = false;
 
-        for(final Move move : board.currentPlayer().getLegalMoves()){
-            final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-
-            if(moveTransition.getMoveStatus().isDone()){
-                final int currentValue = min(moveTransition.getToBoard(), depth-1);
+        for(int i = 0; i < moves.size(); i++){
+            if(board.makeMove(moves.get(i))){
+                final int currentValue = min(board, depth-1, moveBuffers);
+                board.unmakeMove();
+                hasLegalMove = true;
 
                 if(currentValue >= highestSeenValue){
                     highestSeenValue = currentValue;
                 }
             }
         }
-        return highestSeenValue;
+        return hasLegalMove ? highestSeenValue : gameOverScore(board, depth);
     }
 
-    private static boolean isEndGameScenario(final Board board){
-        return board.currentPlayer().isInCheckMate() || board.currentPlayer().isInStaleMate();
-
+    // Scores are white relative here, a mate closer to the root counts for more
+    private int gameOverScore(final SearchBoard board, final int depth) {
+        final int score = AlphaBeta.gameOverScore(board, this.searchDepth - depth);
+        return board.getSideToMove().isWhite() ? score : -score;
     }
 
-
-
-
-
-
-
-
+    // buffers are indexed by remaining depth, the root's children start one below it
+    private static IntMoveList[] createMoveBuffers(final int depth) {
+        final IntMoveList[] buffers = new IntMoveList[Math.max(depth, 1)];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new IntMoveList();
+        }
+        return buffers;
+    }
 
 }
@@ -1,8 +1,9 @@
 package com.chess.pgn;
 
+import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
-import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.*;
 
 public class fenUtilities {
 
@@ -11,7 +12,7 @@ public class fenUtilities {
     }
 
     public static Board createGameFromFEN(final String fenString){
-        return null;
+        return parseFEN(fenString);
     }
 
     public static String createFENFromGame(final Board board){
@@ -23,6 +24,98 @@ public class fenUtilities {
                 "0 1";
     }
 
+    private static Board parseFEN(final String fenString) {
+        final String[] fenPartitions = fenString.trim().split(" ");
+        final Board.Builder builder = new Board.Builder();
+        final String castleText = fenPartitions[2];
+        final boolean whiteKingSideCastle = castleText.contains("K");
+        final boolean whiteQueenSideCastle = castleText.contains("Q");
+        final boolean blackKingSideCastle = castleText.contains("k");
+        final boolean blackQueenSideCastle = castleText.contains("q");
+        final Piece[] pieces = new Piece[BoardUtils.NUM_TILES];
+
+        // Expand the empty tile counts so there is one character per tile
+        final String gameConfiguration = fenPartitions[0].replaceAll("/", "")
+                                                          .replaceAll("8", "--------")
+                                                          .replaceAll("7", "-------")
+                                                          .replaceAll("6", "------")
+                                                          .replaceAll("5", "-----")
+                                                          .replaceAll("4", "----")
+                                                          .replaceAll("3", "---")
+                                                          .replaceAll("2", "--")
+                                                          .replaceAll("1", "-");
+
+        for (int i = 0; i < gameConfiguration.length(); i++) {
+            switch (gameConfiguration.charAt(i)) {
+                case 'r':
+                    pieces[i] = new Rook(i, Alliance.BLACK, (i == 0 && blackQueenSideCastle) || (i == 7 && blackKingSideCastle));
+                    break;
+                case 'n':
+                    pieces[i] = new Knight(i, Alliance.BLACK, false);
+                    break;
+                case 'b':
+                    pieces[i] = new Bishop(i, Alliance.BLACK, false);
+                    break;
+                case 'q':
+                    pieces[i] = new Queen(i, Alliance.BLACK, false);
+                    break;
+                case 'k':
+                    pieces[i] = new King(i, Alliance.BLACK, blackKingSideCastle || blackQueenSideCastle, false,
+                                         blackKingSideCastle, blackQueenSideCastle);
+                    break;
+                case 'p':
+                    pieces[i] = new Pawn(i, Alliance.BLACK, BoardUtils.SEVENTH_RANK[i]);
+                    break;
+                case 'R':
+                    pieces[i] = new Rook(i, Alliance.WHITE, (i == 56 && whiteQueenSideCastle) || (i == 63 && whiteKingSideCastle));
+                    break;
+                case 'N':
+                    pieces[i] = new Knight(i, Alliance.WHITE, false);
+                    break;
+                case 'B':
+                    pieces[i] = new Bishop(i, Alliance.WHITE, false);
+                    break;
+                case 'Q':
+                    pieces[i] = new Queen(i, Alliance.WHITE, false);
+                    break;
+                case 'K':
+                    pieces[i] = new King(i, Alliance.WHITE, whiteKingSideCastle || whiteQueenSideCastle, false,
+                                         whiteKingSideCastle, whiteQueenSideCastle);
+                    break;
+                case 'P':
+                    pieces[i] = new Pawn(i, Alliance.WHITE, BoardUtils.SECOND_RANK[i]);
+                    break;
+                case '-':
+                    break;
+                default:
+                    throw new RuntimeException("Invalid FEN String " + gameConfiguration);
+            }
+
+            if (pieces[i] != null) {
+                builder.setPiece(pieces[i]);
+            }
+        }
+
+        final Alliance moveMaker = moveMaker(fenPartitions[1]);
+        builder.setMoveMaker(moveMaker);
+
+        // The pawn that just jumped sits one tile past the en passant square
+        if (!fenPartitions[3].equals("-")) {
+            final int enPassantSquare = BoardUtils.getCoordinateAtPosition(fenPartitions[3]);
+            builder.setEnPassantPawn((Pawn) pieces[enPassantSquare - (8 * moveMaker.getDirection())]);
+        }
+        return builder.build();
+    }
+
+    private static Alliance moveMaker(final String moveMakerString) {
+        if (moveMakerString.equals("w")) {
+            return Alliance.WHITE;
+        } else if (moveMakerString.equals("b")) {
+            return Alliance.BLACK;
+        }
+        throw new RuntimeException("Invalid FEN String " + moveMakerString);
+    }
+
     private static String calculateBoardText(final Board board) {
         final StringBuilder builder = new StringBuilder();
 
@@ -80,6 +173,6 @@ public class fenUtilities {
     }
 
     private static String calculateCurrentPlayerText(final Board board) {
-        return board.currentPlayer().toString().substring(0, 1).toLowerCase();
+        return board.currentPlayer().getAlliance().isWhite() ? "w" : "b";
     }
 }
@@ -0,0 +1,133 @@
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.player.MoveTransition;
+import com.chess.engine.player.ai.AlphaBeta;
+import com.chess.engine.player.ai.MoveStrategy;
+import com.chess.engine.player.ai.Pruning;
+import com.chess.engine.player.ai.TimeControl;
+import com.chess.engine.player.ai.TranspositionTable;
+import com.chess.pgn.fenUtilities;
+import org.junit.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
+
+public class AlphaBetaTest {
+
+    @Test
+    public void testFoolsMate() {
+        TestPositions.assertFoolsMate(new AlphaBeta(4));
+    }
+
+    @Test
+    public void testBackRankMate() {
+        final Board board = fenUtilities.createGameFromFEN(TestPositions.BACK_RANK_MATE);
+        final MoveStrategy strategy = new AlphaBeta(3);
+
+        assertEquals(strategy.execute(board), TestPositions.createMove(board, "a1", "a8"));
+    }
+
+    @Test
+    public void testMatesInsteadOfStalemating() {
+        // Qc7 stalemates, Qc8 mates, the queen up is worth nothing without the mate
+        final Board board = fenUtilities.createGameFromFEN("k7/8/1K6/8/8/8/8/2Q5 w - - 0 1");
+        final MoveStrategy strategy = new AlphaBeta(3);
+
+        assertEquals(strategy.execute(board), TestPositions.createMove(board, "c1", "c8"));
+    }
+
+    @Test
+    public void testWinsHangingQueen() {
+        TestPositions.assertTakesHangingQueen(new AlphaBeta(4));
+    }
+
+    @Test
+    public void testQuiescenceSeesRecapture() {
+        // at one ply the pawn looks free until the recapture is played out
+        final Board board = fenUtilities.createGameFromFEN("4k3/8/4p3/3p4/8/8/8/3QK3 w - - 0 1");
+        final MoveStrategy strategy = new AlphaBeta(1);
+
+        assertFalse(strategy.execute(board).equals(TestPositions.createMove(board, "d1", "d5")));
+    }
+
+    @Test
+    public void testQuiescenceSeesMate() {
+        // gxh3 wins the queen, but Rxd8 mates and only shows it once the checked side must find an evasion
+        final Board board = fenUtilities.createGameFromFEN("3n2k1/5ppp/8/8/8/7q/5PPP/3R1K2 w - - 0 1");
+        final MoveStrategy strategy = new AlphaBeta(1);
+
+        assertEquals(strategy.execute(board), TestPositions.createMove(board, "d1", "d8"));
+    }
+
+    @Test
+    public void testPrincipalVariation() {
+        final Board board = Board.createStandardBoard();
+        final AlphaBeta strategy = new AlphaBeta(5);
+        final Move bestMove = strategy.execute(board);
+
+        // the line is whole and playable from the root
+        final List<Move> principalVariation = strategy.getPrincipalVariation();
+        assertEquals(principalVariation.size(), 5);
+        assertEquals(principalVariation.get(0), bestMove);
+
+        Board currentBoard = board;
+        for (final Move move : principalVariation) {
+            final MoveTransition transition = currentBoard.currentPlayer().makeMove(move);
+            assertTrue(transition.getMoveStatus().isDone());
+            currentBoard = transition.getToBoard();
+        }
+    }
+
+    @Test
+    public void testPruningSwitches() {
+        final Board board = fenUtilities.createGameFromFEN("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10");
+        final AlphaBeta pruned = new AlphaBeta(5, TimeControl.NONE, new TranspositionTable(1), EnumSet.allOf(Pruning.class));
+        final AlphaBeta unpruned = new AlphaBeta(5, TimeControl.NONE, new TranspositionTable(1), EnumSet.noneOf(Pruning.class));
+        pruned.execute(board);
+        unpruned.execute(board);
+
+        for (final Pruning technique : Pruning.values()) {
+            assertTrue(pruned.getPruningCount(technique) > 0);
+            assertEquals(unpruned.getPruningCount(technique), 0);
+        }
+        assertTrue(pruned.getNodes() < unpruned.getNodes());
+    }
+
+    @Test
+    public void testForcedMoveIsNotSearched() {
+        final Board board = fenUtilities.createGameFromFEN("k7/8/8/8/8/8/1q6/K7 w - - 0 1");
+        final MoveStrategy strategy = new AlphaBeta(64);
+
+        assertEquals(strategy.execute(board), TestPositions.createMove(board, "a1", "b2"));
+    }
+
+    @Test
+    public void testHardLimitStopsSearch() {
+        final Board board = Board.createStandardBoard();
+        final MoveStrategy strategy = new AlphaBeta(64, TimeControl.moveTime(200));
+        final long startTime = System.currentTimeMillis();
+
+        assertNotNull(strategy.execute(board));
+        assertTrue(System.currentTimeMillis() - startTime < 1000);
+    }
+
+    @Test
+    public void testGameClockBudget() {
+        final TimeControl timeControl = TimeControl.gameClock(60000, 0);
+        assertEquals(timeControl.getSoftLimit(), 1998);
+        assertEquals(timeControl.getHardLimit(), 7992);
+
+        // the increment never lets a move take more than a quarter of what is left
+        final TimeControl lowOnTime = TimeControl.gameClock(1000, 2000);
+        assertEquals(lowOnTime.getHardLimit(), (1000 - 50) / 4);
+        assertEquals(lowOnTime.getSoftLimit(), (1000 - 50) / 4);
+        assertTrue(!TimeControl.NONE.isLimited());
+    }
+}
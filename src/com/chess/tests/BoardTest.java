@@ -3,6 +3,7 @@ package com.chess.tests;
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.GameStatus;
 import com.chess.engine.board.Move;
 import com.chess.engine.board.Move.MoveFactory;
 import com.chess.engine.board.Tile;
@@ -10,11 +11,13 @@ import com.chess.engine.pieces.*;
 import com.chess.engine.player.MoveTransition;
 import com.chess.engine.player.ai.MoveStrategy;
 import com.chess.engine.player.ai.minMax;
+import com.chess.pgn.fenUtilities;
 import com.google.common.collect.Iterables;
 import org.junit.Test;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
 import static junit.framework.Assert.assertTrue;
 
 
@@ -69,6 +72,43 @@ public class BoardTest {
     }
 
 
+    @Test
+    public void testBitboards() {
+
+        final Board board = Board.createStandardBoard();
+        assertEquals(board.getPieceBitboard(Alliance.WHITE, Piece.PieceType.PAWN), 0x00FF000000000000L);
+        assertEquals(board.getPieceBitboard(Alliance.BLACK, Piece.PieceType.PAWN), 0x000000000000FF00L);
+        assertEquals(board.getPieceBitboard(Alliance.WHITE, Piece.PieceType.KING), 1L << 60);
+        assertEquals(board.getPieceBitboard(Alliance.BLACK, Piece.PieceType.QUEEN), 1L << 3);
+        assertEquals(board.getOccupancy(Alliance.WHITE), 0xFFFF000000000000L);
+        assertEquals(board.getOccupancy(Alliance.BLACK), 0x000000000000FFFFL);
+        assertEquals(Long.bitCount(board.getOccupancy()), 32);
+
+        for(int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            assertEquals(board.isTileOccupied(i), board.getTile(i).isTileOccupied());
+            assertEquals(board.getPiece(i), board.getTile(i).getPiece());
+        }
+        assertEquals(board.getWhitePieces().size(), calculatedActivesFor(board, Alliance.WHITE));
+        assertEquals(board.getBlackPieces().size(), calculatedActivesFor(board, Alliance.BLACK));
+    }
+
+    @Test
+    public void testSlidingAttacks() {
+
+        final int d4 = BoardUtils.getCoordinateAtPosition("d4");
+        assertEquals(Long.bitCount(BoardUtils.rookAttacks(d4, 0L)), 14);
+        assertEquals(Long.bitCount(BoardUtils.bishopAttacks(d4, 0L)), 13);
+        assertEquals(Long.bitCount(BoardUtils.queenAttacks(d4, 0L)), 27);
+
+        // blockers are attacked, the tiles behind them are not
+        final Board board = Board.createStandardBoard();
+        final int a1 = BoardUtils.getCoordinateAtPosition("a1");
+        final int c1 = BoardUtils.getCoordinateAtPosition("c1");
+        assertEquals(BoardUtils.rookAttacks(a1, board.getOccupancy()), (1L << 48) | (1L << 57));
+        assertEquals(BoardUtils.bishopAttacks(c1, board.getOccupancy()), (1L << 49) | (1L << 51));
+        assertEquals(BoardUtils.rookAttacks(a1, 1L << 32), 0x0001010100000000L | 0xFEL << 56);
+    }
+
     @Test
     public void testPlainKingMove() {
 
@@ -109,6 +149,26 @@ public class BoardTest {
 
     }
 
+    @Test
+    public void testNoCastleOutOfCheck() {
+
+        final Board.Builder builder = new Board.Builder();
+        // Black Layout
+        builder.setPiece(new Rook(12, Alliance.BLACK));
+        builder.setPiece(new King(0, Alliance.BLACK, false, false));
+        // White Layout
+        builder.setPiece(new Rook(63, Alliance.WHITE));
+        builder.setPiece(new King(60, Alliance.WHITE, true, false));
+        builder.setMoveMaker(Alliance.WHITE);
+        final Board board = builder.build();
+
+        // check state and castles are worked out on first use
+        assertTrue(board.currentPlayer().isInCheck());
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            assertFalse(move.isCastlingMove());
+        }
+    }
+
 
     @Test
     public void testBoardConsistency() {
@@ -274,4 +334,28 @@ public class BoardTest {
 
     }
 
+    @Test
+    public void testGameStatus() {
+        final Board initialBoard = Board.createStandardBoard();
+        final Board check = fenUtilities.createGameFromFEN("k7/8/1K6/8/8/8/8/Q7 b - - 0 1");
+        final Board checkmate = fenUtilities.createGameFromFEN("k1Q5/8/1K6/8/8/8/8/8 b - - 0 1");
+        final Board stalemate = fenUtilities.createGameFromFEN("k7/2Q5/1K6/8/8/8/8/8 b - - 0 1");
+
+        assertEquals(initialBoard.getGameStatus(), GameStatus.ONGOING);
+        assertEquals(check.getGameStatus(), GameStatus.CHECK);
+        assertEquals(checkmate.getGameStatus(), GameStatus.CHECKMATE);
+        assertEquals(stalemate.getGameStatus(), GameStatus.STALEMATE);
+
+        // the players and BoardUtils read the same status
+        assertSame(checkmate.getGameStatus(), checkmate.getGameStatus());
+        assertTrue(check.currentPlayer().isInCheck());
+        assertFalse(check.currentPlayer().isInCheckMate());
+        assertTrue(checkmate.currentPlayer().isInCheckMate());
+        assertTrue(stalemate.currentPlayer().isInStaleMate());
+        assertFalse(stalemate.currentPlayer().isInCheckMate());
+        assertTrue(BoardUtils.isEndGame(checkmate));
+        assertTrue(BoardUtils.isEndGame(stalemate));
+        assertFalse(BoardUtils.isEndGame(check));
+    }
+
 }
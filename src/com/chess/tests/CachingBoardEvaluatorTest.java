@@ -0,0 +1,103 @@
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.IntMoveList;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.ai.BoardEvaluator;
+import com.chess.engine.player.ai.CachingBoardEvaluator;
+import com.chess.engine.player.ai.StandardBoardEvaluator;
+import com.chess.pgn.fenUtilities;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+
+public class CachingBoardEvaluatorTest {
+
+    @Test
+    public void testRepeatedPositionIsNotEvaluatedAgain() {
+        final CountingEvaluator counter = new CountingEvaluator();
+        final CachingBoardEvaluator cache = new CachingBoardEvaluator(counter, 1);
+        final Board board = fenUtilities.createGameFromFEN(TestPositions.KIWIPETE);
+        final SearchBoard searchBoard = new SearchBoard(board);
+        final int score = new StandardBoardEvaluator().evaluate(searchBoard, 0);
+
+        assertEquals(cache.evaluate(searchBoard, 0), score);
+        assertEquals(cache.evaluate(searchBoard, 0), score);
+        // the immutable board hashes to the same key
+        assertEquals(cache.evaluate(board, 0), score);
+        assertEquals(counter.getCalls(), 1);
+        assertEquals(cache.getHits(), 2);
+        assertEquals(cache.getProbes(), 3);
+
+        // another depth is another entry
+        cache.evaluate(searchBoard, 1);
+        assertEquals(counter.getCalls(), 2);
+    }
+
+    @Test
+    public void testConcurrentEvaluationsMatchTheWrappedEvaluator() throws InterruptedException {
+        final BoardEvaluator evaluator = new StandardBoardEvaluator();
+        // one slot, so every thread keeps overwriting the others
+        final CachingBoardEvaluator cache = new CachingBoardEvaluator(evaluator, 0);
+        final AtomicBoolean isWrong = new AtomicBoolean();
+        final List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < 4; t++) {
+            final Thread thread = new Thread(() -> {
+                final SearchBoard board = new SearchBoard(fenUtilities.createGameFromFEN(TestPositions.KIWIPETE));
+                final IntMoveList moves = new IntMoveList();
+                board.generateMoves(moves);
+
+                for (int round = 0; round < 200; round++) {
+                    for (int i = 0; i < moves.size(); i++) {
+                        if (board.makeMove(moves.get(i))) {
+                            if (cache.evaluate(board, 0) != evaluator.evaluate(board, 0)) {
+                                isWrong.set(true);
+                            }
+                            board.unmakeMove();
+                        }
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse(isWrong.get());
+    }
+
+    private static final class CountingEvaluator implements BoardEvaluator {
+
+        private final BoardEvaluator boardEvaluator = new StandardBoardEvaluator();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public int evaluate(final Board board, final int depth) {
+            this.calls.incrementAndGet();
+            return this.boardEvaluator.evaluate(board, depth);
+        }
+
+        @Override
+        public int evaluate(final SearchBoard board, final int depth) {
+            this.calls.incrementAndGet();
+            return this.boardEvaluator.evaluate(board, depth);
+        }
+
+        @Override
+        public int getFutilityMargin() {
+            return this.boardEvaluator.getFutilityMargin();
+        }
+
+        int getCalls() {
+            return this.calls.get();
+        }
+    }
+}
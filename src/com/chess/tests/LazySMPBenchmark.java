@@ -0,0 +1,90 @@
+/* TIME TO DEPTH OF THE LAZY SMP SEARCH FOR EACH THREAD COUNT, SPEEDUP IS AGAINST ONE THREAD */
+
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.player.ai.LazySMP;
+import com.chess.engine.player.ai.TimeControl;
+import com.chess.engine.player.ai.TranspositionTable;
+import com.chess.pgn.fenUtilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class LazySMPBenchmark {
+
+    private static final String[] POSITIONS = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"
+    };
+    private static final int HASH_MEGABYTES = 64;
+    // warm up passes stop once one is within this many percent of the one before
+    private static final int STABLE_PERCENT = 5;
+    private static final int MAX_WARM_UP_PASSES = 20;
+
+    private LazySMPBenchmark() {
+        throw new RuntimeException("YOU CANT DO THAT");
+    }
+
+    // Usage: LazySMPBenchmark [depth] [maxThreads] [rounds]
+    public static void main(final String[] args) {
+        final int depth = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        final int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        final int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        final List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            threadCounts.add(threads);
+        }
+
+        warmUp(depth);
+        // the thread counts take turns, so a slow stretch of the machine hits all of them alike
+        final long[][] times = new long[threadCounts.size()][rounds];
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < threadCounts.size(); i++) {
+                times[i][round] = timeToDepth(depth, threadCounts.get(i));
+            }
+        }
+
+        final long singleThreadTime = median(times[0]);
+        for (int i = 0; i < threadCounts.size(); i++) {
+            final long time = median(times[i]);
+            System.out.printf("threads: %3d time: %6d ms speedup: %.2f%n", threadCounts.get(i), time / 1000000,
+                              (double) singleThreadTime / time);
+        }
+    }
+
+    // Single thread passes until two in a row agree, before that the JIT is still compiling the search
+    private static void warmUp(final int depth) {
+        long previous = timeToDepth(depth, 1);
+        for (int pass = 1; pass < MAX_WARM_UP_PASSES; pass++) {
+            final long time = timeToDepth(depth, 1);
+            if (Math.abs(time - previous) * 100 <= STABLE_PERCENT * previous) {
+                return;
+            }
+            previous = time;
+        }
+    }
+
+    private static long median(final long[] times) {
+        final long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static long timeToDepth(final int depth, final int threads) {
+        long time = 0;
+
+        for (final String fen : POSITIONS) {
+            final Board board = fenUtilities.createGameFromFEN(fen);
+            final LazySMP strategy = new LazySMP(depth, threads, TimeControl.NONE, new TranspositionTable(HASH_MEGABYTES));
+            strategy.setReporting(false);
+            final long start = System.nanoTime();
+            strategy.execute(board);
+            time += System.nanoTime() - start;
+        }
+        return time;
+    }
+}
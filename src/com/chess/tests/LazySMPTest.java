@@ -0,0 +1,53 @@
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.player.ai.LazySMP;
+import com.chess.engine.player.ai.TimeControl;
+import com.chess.engine.player.ai.TranspositionTable;
+import com.chess.pgn.fenUtilities;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
+
+public class LazySMPTest {
+
+    @Test
+    public void testThreadsAgreeOnTactics() {
+        final LazySMP strategy = new LazySMP(6, 4, TimeControl.NONE, new TranspositionTable(4));
+
+        TestPositions.assertTakesHangingQueen(strategy);
+        final Board board = fenUtilities.createGameFromFEN(TestPositions.HANGING_QUEEN);
+        assertEquals(strategy.getPrincipalVariation().get(0), TestPositions.createMove(board, "d1", "d5"));
+        assertTrue(strategy.getNodes() > 0);
+
+        // the strategy can be used again for the next move
+        final Board mate = fenUtilities.createGameFromFEN(TestPositions.BACK_RANK_MATE);
+        assertEquals(strategy.execute(mate), TestPositions.createMove(mate, "a1", "a8"));
+    }
+
+    @Test
+    public void testStopSignal() throws InterruptedException {
+        final Board board = Board.createStandardBoard();
+        final LazySMP strategy = new LazySMP(64, 4, TimeControl.NONE, new TranspositionTable(4));
+        final Move[] bestMove = new Move[1];
+        final Thread search = new Thread(() -> bestMove[0] = strategy.execute(board));
+
+        search.start();
+        Thread.sleep(300);
+        final long stopTime = System.currentTimeMillis();
+        strategy.stop();
+        search.join(5000);
+
+        assertTrue(!search.isAlive());
+        assertTrue(System.currentTimeMillis() - stopTime < 2000);
+        assertNotNull(bestMove[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoThreads() {
+        new LazySMP(4, 0, TimeControl.NONE, new TranspositionTable(1));
+    }
+}
@@ -0,0 +1,47 @@
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.ai.CachingBoardEvaluator;
+import com.chess.engine.player.ai.StandardBoardEvaluator;
+import com.chess.engine.player.ai.minMax;
+import com.chess.pgn.fenUtilities;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class MinMaxTest {
+
+    @Test
+    public void testRootSplitMatchesSequential() {
+        TestPositions.withPool(4, pool -> {
+            for (final String fen : TestPositions.PARALLEL_POSITIONS) {
+                final Board board = fenUtilities.createGameFromFEN(fen);
+                assertEquals(new minMax(3, pool).execute(board), new minMax(3).execute(board));
+            }
+        });
+    }
+
+    @Test
+    public void testRootSplitFoolsMate() {
+        TestPositions.withPool(2, pool -> TestPositions.assertFoolsMate(new minMax(4, pool)));
+    }
+
+    @Test
+    public void testCachedEvaluatorMatchesPlain() {
+        TestPositions.withPool(2, pool -> {
+            final CachingBoardEvaluator cache = new CachingBoardEvaluator(new StandardBoardEvaluator(), 1);
+            final Board board = fenUtilities.createGameFromFEN(TestPositions.KIWIPETE);
+            assertEquals(new minMax(3, pool, cache).execute(board), new minMax(3).execute(board));
+            assertTrue(cache.getHits() > 0);
+        });
+    }
+
+    @Test
+    public void testMinNeedsNoSearchFirst() {
+        final SearchBoard board = new SearchBoard(fenUtilities.createGameFromFEN(TestPositions.FOOLS_MATE));
+        // black mates two plies below the root of a depth 3 search
+        assertEquals(new minMax(3).min(board, 2), -(100000 - 2));
+    }
+}
@@ -0,0 +1,120 @@
+/* TIMES MOVE GENERATION OVER POSITIONS FROM RANDOM GAMES, RUN BEFORE AND AFTER A CHANGE */
+
+package com.chess.tests;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.IntMoveList;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.pieces.Piece;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class MoveGenerationBenchmark {
+
+    private static final int GAMES = 50;
+    private static final int PLIES = 80;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int ROUNDS = 200;
+
+    private MoveGenerationBenchmark() {
+        throw new RuntimeException("YOU CANT DO THAT");
+    }
+
+    public static void main(final String[] args) {
+        final List<Board> positions = collectPositions(new Random(1));
+        final List<SearchBoard> searchBoards = new ArrayList<>();
+
+        for (final Board board : positions) {
+            searchBoards.add(new SearchBoard(board));
+        }
+
+        long checksum = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            checksum += generateBoardMoves(positions, false) + generateBoardMoves(positions, true) +
+                        generateSearchBoardMoves(searchBoards);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            checksum += generateBoardMoves(positions, true);
+        }
+        final long stepPieceTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            checksum += generateBoardMoves(positions, false);
+        }
+        final long boardTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            checksum += generateSearchBoardMoves(searchBoards);
+        }
+        final long searchBoardTime = System.nanoTime() - start;
+
+        final long generated = (long) positions.size() * ROUNDS;
+        System.out.printf("positions: %d checksum: %d%n", positions.size(), checksum);
+        System.out.printf("Knight/King : %d ns per position%n", stepPieceTime / generated);
+        System.out.printf("Board       : %d ns per position%n", boardTime / generated);
+        System.out.printf("SearchBoard : %d ns per position%n", searchBoardTime / generated);
+    }
+
+    private static List<Board> collectPositions(final Random random) {
+        final List<Board> positions = new ArrayList<>();
+
+        for (int game = 0; game < GAMES; game++) {
+            Board board = Board.createStandardBoard();
+
+            for (int ply = 0; ply < PLIES; ply++) {
+                final List<Move> legalMoves = new ArrayList<>();
+
+                for (final Move move : board.currentPlayer().getLegalMoves()) {
+                    if (board.currentPlayer().makeMove(move).getMoveStatus().isDone()) {
+                        legalMoves.add(move);
+                    }
+                }
+                if (legalMoves.isEmpty()) {
+                    break;
+                }
+                positions.add(board);
+                board = board.currentPlayer().makeMove(legalMoves.get(random.nextInt(legalMoves.size()))).getToBoard();
+            }
+        }
+        return positions;
+    }
+
+    // Calls the piece generators directly, players keep their moves once generated
+    private static long generateBoardMoves(final List<Board> positions, final boolean stepPiecesOnly) {
+        final IntMoveList moves = new IntMoveList();
+        long count = 0;
+
+        for (final Board board : positions) {
+            moves.clear();
+            for (final Piece piece : board.getAllPieces()) {
+                if (!stepPiecesOnly || piece.getPieceType() == Piece.PieceType.KNIGHT ||
+                        piece.getPieceType() == Piece.PieceType.KING) {
+                    piece.calculateLegalMoves(board, moves);
+                }
+            }
+            count += moves.size();
+        }
+        return count;
+    }
+
+    private static long generateSearchBoardMoves(final List<SearchBoard> searchBoards) {
+        final IntMoveList moves = new IntMoveList();
+        long count = 0;
+
+        for (final SearchBoard board : searchBoards) {
+            board.generateMoves(moves);
+            count += moves.size();
+            board.generateMoves(board.getSideToMove().isWhite() ? Alliance.BLACK : Alliance.WHITE, moves);
+            count += moves.size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,87 @@
+package com.chess.tests;
+
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.IntMove;
+import com.chess.engine.board.IntMoveList;
+import com.chess.engine.player.ai.MoveOrdering;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class MoveOrderingTest {
+
+    // white piece codes follow the piece type order
+    private static final int PAWN = 0;
+    private static final int KNIGHT = 1;
+    private static final int QUEEN = 4;
+    private static final int BLACK_PAWN = 6;
+    private static final int BLACK_ROOK = 8;
+    private static final int BLACK_QUEEN = 10;
+
+    private static int quiet(final int from, final int to) {
+        return IntMove.create(from, to, KNIGHT, BoardUtils.NO_PIECE, IntMove.QUIET);
+    }
+
+    @Test
+    public void testMvvLva() {
+        final int queenTakesPawn = IntMove.create(35, 27, QUEEN, BLACK_PAWN, IntMove.CAPTURE);
+        final int pawnTakesRook = IntMove.create(52, 43, PAWN, BLACK_ROOK, IntMove.CAPTURE);
+        final int knightTakesQueen = IntMove.create(44, 27, KNIGHT, BLACK_QUEEN, IntMove.CAPTURE);
+        final int pawnTakesQueen = IntMove.create(36, 27, PAWN, BLACK_QUEEN, IntMove.CAPTURE);
+        final int quietMove = quiet(62, 45);
+
+        final IntMoveList moves = new IntMoveList();
+        moves.add(quietMove);
+        moves.add(queenTakesPawn);
+        moves.add(pawnTakesRook);
+        moves.add(knightTakesQueen);
+        moves.add(pawnTakesQueen);
+
+        new MoveOrdering().orderMoves(moves, IntMove.NULL_MOVE, 0);
+        assertEquals(moves.get(0), pawnTakesQueen);
+        assertEquals(moves.get(1), knightTakesQueen);
+        assertEquals(moves.get(2), pawnTakesRook);
+        assertEquals(moves.get(3), queenTakesPawn);
+        assertEquals(moves.get(4), quietMove);
+    }
+
+    @Test
+    public void testHashMoveKillersAndHistory() {
+        final MoveOrdering moveOrdering = new MoveOrdering();
+        final int hashMove = quiet(57, 40);
+        final int killer = quiet(57, 42);
+        final int historyMove = quiet(62, 47);
+        final int capture = IntMove.create(52, 43, PAWN, BLACK_PAWN, IntMove.CAPTURE);
+        final int promotion = IntMove.create(8, 0, PAWN, BoardUtils.NO_PIECE, IntMove.PROMOTION);
+
+        moveOrdering.recordCutoff(killer, 3, 2);
+        moveOrdering.recordCutoff(historyMove, 5, 4);
+        // captures never become killers
+        moveOrdering.recordCutoff(capture, 3, 2);
+        assertEquals(moveOrdering.getKiller(3, 0), killer);
+        assertEquals(moveOrdering.getHistory(historyMove), 16);
+
+        final IntMoveList moves = new IntMoveList();
+        moves.add(quiet(62, 45));
+        moves.add(historyMove);
+        moves.add(killer);
+        moves.add(capture);
+        moves.add(promotion);
+        moves.add(hashMove);
+
+        moveOrdering.orderMoves(moves, hashMove, 3);
+        assertEquals(moves.get(0), hashMove);
+        assertEquals(moves.get(1), promotion);
+        assertEquals(moves.get(2), capture);
+        assertEquals(moves.get(3), killer);
+        assertEquals(moves.get(4), historyMove);
+        assertEquals(moves.get(5), quiet(62, 45));
+
+        // a new search forgets the killers and halves the history
+        moveOrdering.newSearch();
+        assertEquals(moveOrdering.getKiller(3, 0), IntMove.NULL_MOVE);
+        assertEquals(moveOrdering.getHistory(historyMove), 8);
+        assertTrue(moveOrdering.scoreMove(killer, IntMove.NULL_MOVE, 3) < moveOrdering.scoreMove(historyMove, IntMove.NULL_MOVE, 3));
+    }
+}
@@ -0,0 +1,93 @@
+package com.chess.tests;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.IntMoveList;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.board.Zobrist;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.chess.engine.player.ai.PawnHashTable;
+import com.chess.engine.player.ai.PawnStructure;
+import com.chess.pgn.fenUtilities;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class PawnHashTableTest {
+
+    @Test
+    public void testPawnKeyFollowsMoves() {
+        final SearchBoard board = new SearchBoard(fenUtilities.createGameFromFEN(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"));
+        final long initialKey = board.getPawnKey();
+        final IntMoveList moves = new IntMoveList();
+        board.generateMoves(moves);
+
+        assertEquals(initialKey, pawnKey(board));
+        for (int i = 0; i < moves.size(); i++) {
+            if (board.makeMove(moves.get(i))) {
+                assertEquals(board.getPawnKey(), pawnKey(board));
+                board.unmakeMove();
+            }
+        }
+        assertEquals(board.getPawnKey(), initialKey);
+    }
+
+    @Test
+    public void testStructureTerms() {
+        // a lone passed pawn on the fifth rank
+        final long passed = PawnStructure.evaluate(pawns("4k3/8/8/P7/8/8/8/4K3 w - - 0 1", Alliance.WHITE), 0L);
+        assertTrue(PawnStructure.getMiddlegameScore(passed) > 0);
+        assertTrue(PawnStructure.getEndgameScore(passed) > PawnStructure.getMiddlegameScore(passed));
+
+        // doubled and isolated white pawns against a healthy black pair
+        final Board board = fenUtilities.createGameFromFEN("4k3/pp6/8/8/8/P7/P7/4K3 w - - 0 1");
+        final long weak = PawnStructure.evaluate(pawns(board, Alliance.WHITE), pawns(board, Alliance.BLACK));
+        assertTrue(PawnStructure.getMiddlegameScore(weak) < 0);
+        assertTrue(PawnStructure.getEndgameScore(weak) < 0);
+
+        // only a castled king counts its shield
+        final long shield = PawnStructure.evaluate(pawns("4k3/8/8/8/8/8/5PPP/6K1 w - - 0 1", Alliance.WHITE), 0L);
+        assertEquals(PawnStructure.getShieldScore(shield, 62, 4), 30);
+        assertEquals(PawnStructure.getShieldScore(shield, 60, 4), 0);
+    }
+
+    @Test
+    public void testHitRate() {
+        final PawnHashTable table = new PawnHashTable(1);
+        final Board board = fenUtilities.createGameFromFEN("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+        final SearchBoard searchBoard = new SearchBoard(board);
+
+        final long entry = table.probe(searchBoard);
+        assertEquals(table.getHits(), 0);
+        // the immutable board hashes its pawns the same way
+        assertEquals(table.probe(board), entry);
+        assertEquals(table.getHits(), 1);
+        assertEquals(table.getProbes(), 2);
+        assertEquals(table.getHitRate(), 500);
+    }
+
+    @Test
+    public void testStructureWorthNothingIsStored() {
+        final PawnHashTable table = new PawnHashTable(1);
+        final Board board = fenUtilities.createGameFromFEN("4k3/8/8/8/8/8/8/4K3 w - - 0 1");
+
+        assertEquals(table.probe(board), 0L);
+        assertEquals(table.probe(board), 0L);
+        assertEquals(table.getHits(), 1);
+    }
+
+    private static long pawnKey(final SearchBoard board) {
+        return Zobrist.pawnKey(board.getPieceBitboard(Alliance.WHITE, PieceType.PAWN),
+                               board.getPieceBitboard(Alliance.BLACK, PieceType.PAWN));
+    }
+
+    private static long pawns(final String fen, final Alliance alliance) {
+        return pawns(fenUtilities.createGameFromFEN(fen), alliance);
+    }
+
+    private static long pawns(final Board board, final Alliance alliance) {
+        return board.getPieceBitboard(alliance, PieceType.PAWN);
+    }
+}
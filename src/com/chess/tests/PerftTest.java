@@ -0,0 +1,67 @@
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Perft;
+import com.chess.pgn.fenUtilities;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class PerftTest {
+
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    private static final String ENDGAME = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+
+    @Test
+    public void testStartPosition() {
+        final Perft perft = new Perft(1, 0);
+        final Board board = Board.createStandardBoard();
+
+        assertEquals(perft.perft(board, 0), 1);
+        assertTrue(perft.divide(board, 0).isEmpty());
+        assertEquals(perft.perft(board, 1), 20);
+        assertEquals(perft.perft(board, 2), 400);
+        assertEquals(perft.perft(board, 3), 8902);
+        assertEquals(perft.perft(board, 4), 197281);
+        perft.shutdown();
+    }
+
+    @Test
+    public void testCastlesAndEnPassant() {
+        final Perft perft = new Perft(1, 0);
+        final Board kiwipete = fenUtilities.createGameFromFEN(KIWIPETE);
+        final Board endgame = fenUtilities.createGameFromFEN(ENDGAME);
+
+        assertEquals(perft.perft(kiwipete, 1), 48);
+        assertEquals(perft.perft(kiwipete, 2), 2039);
+        assertEquals(perft.perft(kiwipete, 3), 97862);
+        assertEquals(perft.perft(endgame, 4), 43238);
+        perft.shutdown();
+    }
+
+    @Test
+    public void testThreadsAndHashAgree() {
+        final Perft serial = new Perft(1, 0);
+        final Perft parallel = new Perft(4, 16);
+        final Board board = fenUtilities.createGameFromFEN(KIWIPETE);
+
+        final Map<String, Long> expected = serial.divide(board, 3);
+        assertEquals(expected.size(), 48);
+        assertEquals(parallel.divide(board, 3), expected);
+        // the second run is answered from the hash
+        assertEquals(parallel.divide(board, 3), expected);
+        serial.shutdown();
+        parallel.shutdown();
+    }
+
+    @Test
+    public void testFenRoundTrip() {
+        final Board board = fenUtilities.createGameFromFEN(KIWIPETE);
+
+        assertEquals(fenUtilities.createFENFromGame(board), KIWIPETE);
+        assertEquals(board.getZobristKey(), fenUtilities.createGameFromFEN(KIWIPETE).getZobristKey());
+    }
+}
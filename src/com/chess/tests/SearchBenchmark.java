@@ -0,0 +1,61 @@
+/* SEARCHES BENCHMARK POSITIONS WITH EACH PRUNING TECHNIQUE SWITCHED OFF IN TURN AND COMPARES NODE COUNTS */
+
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.player.ai.AlphaBeta;
+import com.chess.engine.player.ai.Pruning;
+import com.chess.engine.player.ai.TimeControl;
+import com.chess.engine.player.ai.TranspositionTable;
+import com.chess.pgn.fenUtilities;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public final class SearchBenchmark {
+
+    private static final String[] POSITIONS = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r1bqkb1r/pppp1ppp/2n2n2/4p2Q/2B1P3/8/PPPP1PPP/RNB1K1NR w KQkq - 4 4",
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"
+    };
+    private static final int HASH_MEGABYTES = 16;
+
+    private SearchBenchmark() {
+        throw new RuntimeException("YOU CANT DO THAT");
+    }
+
+    // Usage: SearchBenchmark [depth]
+    public static void main(final String[] args) {
+        final int depth = args.length > 0 ? Integer.parseInt(args[0]) : 6;
+
+        // the first pass only warms up the JIT
+        run("warm up", EnumSet.allOf(Pruning.class), depth);
+        run("all", EnumSet.allOf(Pruning.class), depth);
+        for (final Pruning technique : Pruning.values()) {
+            final Set<Pruning> pruning = EnumSet.allOf(Pruning.class);
+            pruning.remove(technique);
+            run("no " + technique, pruning, depth);
+        }
+        run("none", EnumSet.noneOf(Pruning.class), depth);
+    }
+
+    private static void run(final String label, final Set<Pruning> pruning, final int depth) {
+        long nodes = 0;
+        long time = 0;
+
+        for (final String fen : POSITIONS) {
+            final Board board = fenUtilities.createGameFromFEN(fen);
+            final AlphaBeta strategy = new AlphaBeta(depth, TimeControl.NONE, new TranspositionTable(HASH_MEGABYTES), pruning);
+            // only the totals are wanted here
+            strategy.setReporting(false);
+            final long start = System.nanoTime();
+            strategy.execute(board);
+            time += System.nanoTime() - start;
+            nodes += strategy.getNodes();
+        }
+        System.out.printf("%-30s nodes: %10d time: %6d ms%n", label, nodes, time / 1000000);
+    }
+}
@@ -0,0 +1,283 @@
+package com.chess.tests;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.IntMove;
+import com.chess.engine.board.IntMoveList;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.Move.MoveFactory;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.pieces.King;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Rook;
+import com.chess.pgn.fenUtilities;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertTrue;
+
+public class SearchBoardTest {
+
+    private static int countLegalMoves(final SearchBoard board) {
+        final IntMoveList moves = new IntMoveList();
+        board.generateMoves(moves);
+        int legalMoves = 0;
+
+        for (int i = 0; i < moves.size(); i++) {
+            if (board.makeMove(moves.get(i))) {
+                legalMoves++;
+                board.unmakeMove();
+            }
+        }
+        return legalMoves;
+    }
+
+    private static int move(final SearchBoard board, final String from, final String to, final int flag) {
+        final int currentCoordinate = BoardUtils.getCoordinateAtPosition(from);
+        final int destinationCoordinate = BoardUtils.getCoordinateAtPosition(to);
+        final int capturedCoordinate = flag == IntMove.EN_PASSANT ?
+                destinationCoordinate - 8 * board.getSideToMove().getDirection() : destinationCoordinate;
+
+        return IntMove.create(currentCoordinate, destinationCoordinate, board.getPieceCode(currentCoordinate),
+                              board.getPieceCode(capturedCoordinate), flag);
+    }
+
+    @Test
+    public void initialBoard() {
+        final SearchBoard board = new SearchBoard(Board.createStandardBoard());
+
+        assertEquals(board.getSideToMove(), Alliance.WHITE);
+        assertEquals(countLegalMoves(board), 20);
+        assertEquals(board.countMoves(Alliance.BLACK), 20);
+        assertEquals(board.getCastlingRights(), BoardUtils.WHITE_KING_SIDE | BoardUtils.WHITE_QUEEN_SIDE |
+                                                BoardUtils.BLACK_KING_SIDE | BoardUtils.BLACK_QUEEN_SIDE);
+        assertFalse(board.isInCheck(Alliance.WHITE));
+        assertFalse(board.isInCheck(Alliance.BLACK));
+    }
+
+    @Test
+    public void testMakeUnmakeRestoresBoard() {
+        final SearchBoard board = new SearchBoard(Board.createStandardBoard());
+        final String start = board.toString();
+
+        assertTrue(board.makeMove(move(board, "e2", "e4", IntMove.PAWN_JUMP)));
+        assertEquals(board.getEnPassantSquare(), BoardUtils.getCoordinateAtPosition("e3"));
+        assertTrue(board.makeMove(move(board, "d7", "d5", IntMove.PAWN_JUMP)));
+        assertTrue(board.makeMove(move(board, "e4", "d5", IntMove.CAPTURE)));
+        assertEquals(Long.bitCount(board.getOccupancy(Alliance.BLACK)), 15);
+        assertEquals(board.getSideToMove(), Alliance.BLACK);
+
+        board.unmakeMove();
+        board.unmakeMove();
+        board.unmakeMove();
+        assertEquals(board.toString(), start);
+        assertEquals(board.getEnPassantSquare(), BoardUtils.NO_SQUARE);
+        assertEquals(board.getSideToMove(), Alliance.WHITE);
+        assertEquals(countLegalMoves(board), 20);
+    }
+
+    @Test
+    public void testCastleEnPassantAndPromotion() {
+        final Board.Builder builder = new Board.Builder();
+        // Black Layout
+        builder.setPiece(new King(4, Alliance.BLACK, false, false));
+        builder.setPiece(new Pawn(11, Alliance.BLACK));
+        // White Layout
+        builder.setPiece(new Pawn(14, Alliance.WHITE));
+        builder.setPiece(new Pawn(28, Alliance.WHITE));
+        builder.setPiece(new Rook(63, Alliance.WHITE));
+        builder.setPiece(new King(60, Alliance.WHITE, true, true));
+        builder.setMoveMaker(Alliance.WHITE);
+
+        final SearchBoard board = new SearchBoard(builder.build());
+        final String start = board.toString();
+        assertEquals(board.getCastlingRights(), BoardUtils.WHITE_KING_SIDE);
+
+        assertTrue(board.makeMove(move(board, "e1", "g1", IntMove.KING_SIDE_CASTLE)));
+        assertEquals(board.getPieceCode(BoardUtils.getCoordinateAtPosition("f1")),
+                     BoardUtils.bitboardIndex(Alliance.WHITE, Piece.PieceType.ROOK));
+        assertEquals(board.getCastlingRights(), 0);
+
+        assertTrue(board.makeMove(move(board, "d7", "d5", IntMove.PAWN_JUMP)));
+        assertTrue(board.makeMove(move(board, "e5", "d6", IntMove.EN_PASSANT)));
+        assertEquals(board.getPieceBitboard(Alliance.BLACK, Piece.PieceType.PAWN), 0L);
+
+        assertTrue(board.makeMove(move(board, "e8", "d8", IntMove.QUIET)));
+        assertTrue(board.makeMove(move(board, "g7", "g8", IntMove.PROMOTION)));
+        assertEquals(board.getPieceCode(BoardUtils.getCoordinateAtPosition("g8")),
+                     BoardUtils.bitboardIndex(Alliance.WHITE, Piece.PieceType.QUEEN));
+
+        for (int i = 0; i < 5; i++) {
+            board.unmakeMove();
+        }
+        assertEquals(board.toString(), start);
+        assertEquals(board.getCastlingRights(), BoardUtils.WHITE_KING_SIDE);
+    }
+
+    @Test
+    public void testIllegalMoveIsTakenBack() {
+        final Board.Builder builder = new Board.Builder();
+        // Black Layout
+        builder.setPiece(new Rook(4, Alliance.BLACK));
+        builder.setPiece(new King(0, Alliance.BLACK, false, false));
+        // White Layout
+        builder.setPiece(new Rook(52, Alliance.WHITE));
+        builder.setPiece(new King(60, Alliance.WHITE, false, false));
+        builder.setMoveMaker(Alliance.WHITE);
+
+        final SearchBoard board = new SearchBoard(builder.build());
+        final String start = board.toString();
+
+        // the rook is pinned to the king along the e file
+        assertFalse(board.makeMove(move(board, "e2", "d2", IntMove.QUIET)));
+        assertEquals(board.toString(), start);
+        assertEquals(board.getSideToMove(), Alliance.WHITE);
+        assertTrue(board.makeMove(move(board, "e2", "e8", IntMove.CAPTURE)));
+        assertTrue(board.isInCheck(Alliance.BLACK));
+    }
+
+    private static Board play(final Board board, final String... moves) {
+        Board current = board;
+
+        for (int i = 0; i < moves.length; i += 2) {
+            current = current.currentPlayer().makeMove(MoveFactory.createMove(current,
+                    BoardUtils.getCoordinateAtPosition(moves[i]),
+                    BoardUtils.getCoordinateAtPosition(moves[i + 1]))).getToBoard();
+        }
+        return current;
+    }
+
+    @Test
+    public void testZobristKey() {
+        final Board start = Board.createStandardBoard();
+        final Board t1 = play(start, "g1", "f3", "b8", "c6", "b1", "c3", "g8", "f6");
+        final Board t2 = play(start, "b1", "c3", "g8", "f6", "g1", "f3", "b8", "c6");
+
+        // same position reached by a different move order
+        assertNotSame(t1, t2);
+        assertEquals(t1.getZobristKey(), t2.getZobristKey());
+        assertEquals(t1, t2);
+        assertEquals(t1.hashCode(), t2.hashCode());
+        assertFalse(start.getZobristKey() == t1.getZobristKey());
+
+        // the side to move and the en passant file are part of the key
+        final Board jump = play(start, "e2", "e4");
+        final Board step = play(start, "e2", "e3", "e7", "e6", "e3", "e4", "e6", "e5");
+        assertFalse(jump.getZobristKey() == play(start, "e2", "e3", "e7", "e6", "e3", "e4").getZobristKey());
+        assertFalse(play(jump, "e7", "e5").getZobristKey() == step.getZobristKey());
+
+        // the search board key follows its moves and comes back on unmake
+        final SearchBoard board = new SearchBoard(start);
+        assertEquals(board.getZobristKey(), start.getZobristKey());
+        assertTrue(board.makeMove(move(board, "g1", "f3", IntMove.QUIET)));
+        assertTrue(board.makeMove(move(board, "b8", "c6", IntMove.QUIET)));
+        assertTrue(board.makeMove(move(board, "b1", "c3", IntMove.QUIET)));
+        assertTrue(board.makeMove(move(board, "g8", "f6", IntMove.QUIET)));
+        assertEquals(board.getZobristKey(), t1.getZobristKey());
+        assertEquals(new SearchBoard(t1).getZobristKey(), t1.getZobristKey());
+
+        for (int i = 0; i < 4; i++) {
+            board.unmakeMove();
+        }
+        assertEquals(board.getZobristKey(), start.getZobristKey());
+    }
+
+    @Test
+    public void testIntMoveEncoding() {
+        final Board.Builder builder = new Board.Builder();
+        // Black Layout
+        builder.setPiece(new Rook(0, Alliance.BLACK));
+        builder.setPiece(new Rook(7, Alliance.BLACK));
+        builder.setPiece(new King(4, Alliance.BLACK, true, true));
+        // White Layout
+        builder.setPiece(new Pawn(14, Alliance.WHITE));
+        builder.setPiece(new King(60, Alliance.WHITE, false, false));
+        builder.setMoveMaker(Alliance.BLACK);
+        final Board board = builder.build();
+
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final int encoded = IntMove.create(move);
+            assertTrue(board.currentPlayer().getLegalMoveList().contains(encoded));
+            assertEquals(MoveFactory.createMove(board, encoded), move);
+        }
+
+        final Move castle = MoveFactory.createMove(board, BoardUtils.getCoordinateAtPosition("e8"),
+                                                   BoardUtils.getCoordinateAtPosition("c8"));
+        assertTrue(castle instanceof Move.QueenSideCastleMove);
+        assertEquals(IntMove.getFlag(IntMove.create(castle)), IntMove.QUEEN_SIDE_CASTLE);
+        // the g7 pawn covers f8
+        assertEquals(MoveFactory.createMove(board, BoardUtils.getCoordinateAtPosition("e8"),
+                                            BoardUtils.getCoordinateAtPosition("g8")), MoveFactory.getNullMove());
+
+        // the white promotion is found in the opponent's list
+        final int promotion = IntMove.create(MoveFactory.createMove(board, BoardUtils.getCoordinateAtPosition("g7"),
+                                                                    BoardUtils.getCoordinateAtPosition("h8")));
+        assertEquals(IntMove.getFlag(promotion), IntMove.PROMOTION | IntMove.CAPTURE);
+        assertEquals(IntMove.getCapturedPiece(promotion), BoardUtils.bitboardIndex(Alliance.BLACK, Piece.PieceType.ROOK));
+        assertEquals(IntMove.toString(promotion), "g7h8q");
+    }
+
+    @Test
+    public void testTacticalMoves() {
+        // Kiwipete, every kind of capture plus a promotion for black
+        final SearchBoard board = new SearchBoard(fenUtilities.createGameFromFEN(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPp/R3K3 b Qkq - 0 1"));
+        final IntMoveList allMoves = new IntMoveList();
+        final IntMoveList tacticalMoves = new IntMoveList();
+        board.generateMoves(allMoves);
+        board.generateTacticalMoves(tacticalMoves);
+
+        int expected = 0;
+        for (int i = 0; i < allMoves.size(); i++) {
+            final int move = allMoves.get(i);
+            if (IntMove.isAttack(move) || IntMove.isPromotion(move)) {
+                assertTrue(tacticalMoves.contains(move));
+                expected++;
+            }
+        }
+        assertEquals(tacticalMoves.size(), expected);
+        assertTrue(tacticalMoves.contains(move(board, "h2", "h1", IntMove.PROMOTION)));
+    }
+
+    @Test
+    public void testNullMove() {
+        // black just played e7e5, the en passant square is e6
+        final Board board = fenUtilities.createGameFromFEN("rnbqkbnr/pppp1ppp/8/3Pp3/8/8/PPP1PPPP/RNBQKBNR w KQkq e6 0 3");
+        final Board passed = MoveFactory.createNullMove(board).execute();
+        assertEquals(passed.currentPlayer().getAlliance(), Alliance.BLACK);
+        assertEquals(passed.getEnPassantPawn(), null);
+        assertEquals(passed.getCastlingRights(), board.getCastlingRights());
+
+        final SearchBoard searchBoard = new SearchBoard(board);
+        final long zobristKey = searchBoard.getZobristKey();
+        searchBoard.makeNullMove();
+        assertEquals(searchBoard.getSideToMove(), Alliance.BLACK);
+        assertEquals(searchBoard.getEnPassantSquare(), BoardUtils.NO_SQUARE);
+        assertEquals(searchBoard.getZobristKey(), passed.getZobristKey());
+        assertEquals(searchBoard.getZobristKey(), new SearchBoard(passed).getZobristKey());
+
+        searchBoard.unmakeNullMove();
+        assertEquals(searchBoard.getZobristKey(), zobristKey);
+        assertEquals(searchBoard.getEnPassantSquare(), BoardUtils.getCoordinateAtPosition("e6"));
+        assertTrue(searchBoard.makeMove(move(searchBoard, "d5", "e6", IntMove.EN_PASSANT)));
+
+        // the board-less null move still only marks a missing move
+        try {
+            MoveFactory.getNullMove().execute();
+            assertTrue(false);
+        } catch (final RuntimeException e) {
+            assertEquals(e.getMessage(), "NULL MOVE");
+        }
+    }
+
+    @Test
+    public void testNonPawnMaterial() {
+        final SearchBoard board = new SearchBoard(fenUtilities.createGameFromFEN("4k3/pppp4/8/8/8/8/4PPPP/3NK3 w - - 0 1"));
+        assertTrue(board.hasNonPawnMaterial(Alliance.WHITE));
+        assertFalse(board.hasNonPawnMaterial(Alliance.BLACK));
+    }
+}
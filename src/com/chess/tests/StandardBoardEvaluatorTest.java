@@ -0,0 +1,39 @@
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.MoveTransition;
+import com.chess.engine.player.ai.BoardEvaluator;
+import com.chess.engine.player.ai.StandardBoardEvaluator;
+import com.chess.pgn.fenUtilities;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class StandardBoardEvaluatorTest {
+
+    @Test
+    public void testSearchBoardMatchesBoard() {
+        final BoardEvaluator evaluator = new StandardBoardEvaluator();
+        // castling rights, promotions and checks on both sides
+        final String[] positions = {
+                TestPositions.KIWIPETE,
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                TestPositions.FOOLS_MATE
+        };
+        for (final String fen : positions) {
+            final Board board = fenUtilities.createGameFromFEN(fen);
+
+            assertEquals(evaluator.evaluate(new SearchBoard(board), 0), evaluator.evaluate(board, 0));
+            for (final Move move : board.currentPlayer().getLegalMoves()) {
+                final MoveTransition transition = board.currentPlayer().makeMove(move);
+
+                if (transition.getMoveStatus().isDone()) {
+                    final Board toBoard = transition.getToBoard();
+                    assertEquals(evaluator.evaluate(new SearchBoard(toBoard), 0), evaluator.evaluate(toBoard, 0));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.IntMoveList;
+import com.chess.engine.board.Move.MoveFactory;
+import com.chess.engine.board.PieceSquareTables;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.MoveTransition;
+import com.chess.engine.player.ai.BoardEvaluator;
+import com.chess.engine.player.ai.TaperedBoardEvaluator;
+import com.chess.pgn.fenUtilities;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class TaperedBoardEvaluatorTest {
+
+    @Test
+    public void testStartPositionIsEven() {
+        final Board board = fenUtilities.createGameFromFEN("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+        final SearchBoard searchBoard = new SearchBoard(board);
+
+        assertEquals(new TaperedBoardEvaluator().evaluate(board, 0), 0);
+        assertEquals(searchBoard.getPhase(), PieceSquareTables.MAX_PHASE);
+    }
+
+    @Test
+    public void testMirroredPositionNegates() {
+        final BoardEvaluator evaluator = new TaperedBoardEvaluator();
+        final Board board = fenUtilities.createGameFromFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        final Board mirrored = fenUtilities.createGameFromFEN("r3k2r/pppbbppp/2n2q1P/1P2p3/3pn3/BN2PNP1/P1PPQPB1/R3K2R b KQkq - 0 1");
+
+        assertEquals(evaluator.evaluate(mirrored, 0), -evaluator.evaluate(board, 0));
+        assertEquals(evaluator.evaluate(new SearchBoard(mirrored), 0), -evaluator.evaluate(new SearchBoard(board), 0));
+    }
+
+    @Test
+    public void testIncrementalMatchesFullEvaluation() {
+        final BoardEvaluator evaluator = new TaperedBoardEvaluator();
+        // Kiwipete and a position with en passant and promotions for both sides
+        final String[] positions = {
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "n1n5/PPPk4/8/8/8/8/4Kppp/5N1N b - - 0 1",
+                "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3"
+        };
+        for (final String fen : positions) {
+            final Board board = fenUtilities.createGameFromFEN(fen);
+            final SearchBoard searchBoard = new SearchBoard(board);
+            final int initialScore = evaluator.evaluate(searchBoard, 0);
+            final IntMoveList moves = board.currentPlayer().getLegalMoveList();
+
+            assertEquals(initialScore, evaluator.evaluate(board, 0));
+            for (int i = 0; i < moves.size(); i++) {
+                final MoveTransition transition = board.currentPlayer().makeMove(MoveFactory.createMove(board, moves.get(i)));
+
+                if (transition.getMoveStatus().isDone()) {
+                    assertTrue(searchBoard.makeMove(moves.get(i)));
+                    assertEquals(evaluator.evaluate(searchBoard, 0), evaluator.evaluate(transition.getToBoard(), 0));
+                    searchBoard.unmakeMove();
+                }
+            }
+            assertEquals(evaluator.evaluate(searchBoard, 0), initialScore);
+        }
+    }
+}
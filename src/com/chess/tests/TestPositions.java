@@ -0,0 +1,62 @@
+/* POSITIONS AND HELPERS SHARED BY THE SEARCH TESTS */
+
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.Move.MoveFactory;
+import com.chess.engine.player.ai.MoveStrategy;
+import com.chess.pgn.fenUtilities;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static junit.framework.Assert.assertEquals;
+
+final class TestPositions {
+
+    static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    // black mates with Qh4
+    static final String FOOLS_MATE = "rnbqkbnr/pppp1ppp/8/4p3/6P1/5P2/PPPPP2P/RNBQKBNR b KQkq g3 0 2";
+    // the same game one move later, white has no move left
+    static final String FOOLS_MATED = "rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w KQkq - 1 3";
+    static final String BACK_RANK_MATE = "6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 0 1";
+    // Rxd5 wins the queen for nothing
+    static final String HANGING_QUEEN = "4k3/8/8/3q4/8/8/8/3RK3 w - - 0 1";
+    // opening, middlegame and endgame positions a parallel search has to agree with a serial one on
+    static final String[] PARALLEL_POSITIONS = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            KIWIPETE,
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 b - - 0 1"
+    };
+
+    private TestPositions() {
+        throw new RuntimeException("YOU CANT DO THAT");
+    }
+
+    static Move createMove(final Board board, final String from, final String to) {
+        return MoveFactory.createMove(board, BoardUtils.getCoordinateAtPosition(from),
+                                             BoardUtils.getCoordinateAtPosition(to));
+    }
+
+    static void assertFoolsMate(final MoveStrategy strategy) {
+        final Board board = fenUtilities.createGameFromFEN(FOOLS_MATE);
+        assertEquals(strategy.execute(board), createMove(board, "d8", "h4"));
+    }
+
+    static void assertTakesHangingQueen(final MoveStrategy strategy) {
+        final Board board = fenUtilities.createGameFromFEN(HANGING_QUEEN);
+        assertEquals(strategy.execute(board), createMove(board, "d1", "d5"));
+    }
+
+    // Hands the test a pool of the given size and shuts the pool down however the test ends
+    static void withPool(final int parallelism, final Consumer<ForkJoinPool> test) {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            test.accept(pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
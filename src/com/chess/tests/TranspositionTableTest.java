@@ -0,0 +1,117 @@
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.IntMove;
+import com.chess.engine.board.Move;
+import com.chess.engine.player.ai.AlphaBeta;
+import com.chess.engine.player.ai.TimeControl;
+import com.chess.engine.player.ai.TranspositionTable;
+import com.chess.pgn.fenUtilities;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class TranspositionTableTest {
+
+    @Test
+    public void testStoreAndProbe() {
+        final TranspositionTable table = new TranspositionTable(1);
+        final int move = IntMove.create(52, 36, 0, 0xF, IntMove.PAWN_JUMP);
+        table.store(0x123456789ABCDEFL, 7, TranspositionTable.LOWER_BOUND, -1234, move);
+
+        final long entry = table.probe(0x123456789ABCDEFL);
+        assertEquals(TranspositionTable.getScore(entry), -1234);
+        assertEquals(TranspositionTable.getMove(entry), move);
+        assertEquals(TranspositionTable.getDepth(entry), 7);
+        assertEquals(TranspositionTable.getBound(entry), TranspositionTable.LOWER_BOUND);
+
+        // same bucket, different key
+        assertEquals(table.probe(0x123456789ABCDEFL ^ (1L << 60)), 0L);
+        assertEquals(table.getProbes(), 2);
+        assertEquals(table.getHits(), 1);
+        assertEquals(table.getHitRate(), 500);
+    }
+
+    @Test
+    public void testSamePositionKeepsMove() {
+        final TranspositionTable table = new TranspositionTable(1);
+        final int move = IntMove.create(62, 45, 1, 0xF, IntMove.QUIET);
+        table.store(42L, 3, TranspositionTable.EXACT, 15, move);
+        table.store(42L, 4, TranspositionTable.UPPER_BOUND, -20, 0);
+
+        final long entry = table.probe(42L);
+        assertEquals(TranspositionTable.getMove(entry), move);
+        assertEquals(TranspositionTable.getDepth(entry), 4);
+        assertEquals(TranspositionTable.getScore(entry), -20);
+    }
+
+    @Test
+    public void testShallowBoundKeepsDeepEntry() {
+        final TranspositionTable table = new TranspositionTable(1);
+        table.store(42L, 8, TranspositionTable.EXACT, 15, 0);
+        table.store(42L, 2, TranspositionTable.LOWER_BOUND, 300, 0);
+        assertEquals(TranspositionTable.getDepth(table.probe(42L)), 8);
+        assertEquals(TranspositionTable.getScore(table.probe(42L)), 15);
+
+        // an exact score or an entry from an older search is replaced
+        table.store(42L, 2, TranspositionTable.EXACT, 30, 0);
+        assertEquals(TranspositionTable.getDepth(table.probe(42L)), 2);
+        table.store(43L, 8, TranspositionTable.EXACT, 15, 0);
+        table.newSearch();
+        table.store(43L, 2, TranspositionTable.UPPER_BOUND, -5, 0);
+        assertEquals(TranspositionTable.getScore(table.probe(43L)), -5);
+    }
+
+    @Test
+    public void testReplacementPrefersOldAndShallow() {
+        // a single bucket of four entries
+        final TranspositionTable table = new TranspositionTable(0);
+        assertEquals(table.getCapacity(), 4);
+
+        for (long key = 1; key <= 4; key++) {
+            table.store(key, (int) key, TranspositionTable.EXACT, 0, 0);
+        }
+        table.store(5L, 10, TranspositionTable.EXACT, 0, 0);
+        assertEquals(table.probe(1L), 0L);
+        assertTrue(table.probe(2L) != 0L);
+
+        // entries from an old search lose to shallow new ones
+        table.newSearch();
+        table.newSearch();
+        table.store(6L, 1, TranspositionTable.EXACT, 0, 0);
+        table.store(7L, 1, TranspositionTable.EXACT, 0, 0);
+        assertEquals(table.probe(2L), 0L);
+        assertEquals(table.probe(3L), 0L);
+        assertTrue(table.probe(6L) != 0L);
+        assertTrue(table.probe(7L) != 0L);
+    }
+
+    @Test
+    public void testFill() {
+        final TranspositionTable table = new TranspositionTable(0);
+        assertEquals(table.getFill(), 0);
+        table.store(1L, 1, TranspositionTable.EXACT, 0, 0);
+        table.store(2L, 1, TranspositionTable.EXACT, 0, 0);
+        assertEquals(table.getFill(), 500);
+
+        table.newSearch();
+        assertEquals(table.getFill(), 0);
+        table.clear();
+        assertEquals(table.probe(1L), 0L);
+    }
+
+    @Test
+    public void testSharedTableSearch() {
+        final Board board = fenUtilities.createGameFromFEN(TestPositions.HANGING_QUEEN);
+        final Move bestMove = TestPositions.createMove(board, "d1", "d5");
+        final TranspositionTable table = new TranspositionTable(0);
+
+        // the second search starts from the first one's entries and agrees with it
+        assertEquals(new AlphaBeta(4, TimeControl.NONE, table).execute(board), bestMove);
+        assertTrue(table.getFill() > 0);
+        final long firstHits = table.getHits();
+        assertEquals(new AlphaBeta(4, TimeControl.NONE, table).execute(board), bestMove);
+        assertTrue(table.getHits() > firstHits);
+    }
+}
@@ -0,0 +1,49 @@
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.player.ai.YoungBrothersWait;
+import com.chess.pgn.fenUtilities;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+public class YoungBrothersWaitTest {
+
+    @Test
+    public void testSameAnswerOnAnyThreadCount() {
+        TestPositions.withPool(1, serial -> TestPositions.withPool(4, parallel -> {
+            for (final String fen : TestPositions.PARALLEL_POSITIONS) {
+                final Board board = fenUtilities.createGameFromFEN(fen);
+                final YoungBrothersWait serialSearch = new YoungBrothersWait(4, serial);
+                final YoungBrothersWait parallelSearch = new YoungBrothersWait(4, parallel);
+
+                for (int run = 0; run < 3; run++) {
+                    assertEquals(parallelSearch.execute(board), serialSearch.execute(board));
+                    assertEquals(parallelSearch.getBestValue(), serialSearch.getBestValue());
+                }
+            }
+        }));
+    }
+
+    @Test
+    public void testFoolsMate() {
+        TestPositions.withPool(2, pool -> {
+            final YoungBrothersWait strategy = new YoungBrothersWait(3, pool);
+            TestPositions.assertFoolsMate(strategy);
+            // mate in one ply, the shortest there is
+            assertEquals(strategy.getBestValue(), 100000 - 1);
+        });
+    }
+
+    @Test
+    public void testNoMoveWhenMated() {
+        TestPositions.withPool(2, pool ->
+                assertNull(new YoungBrothersWait(3, pool).execute(fenUtilities.createGameFromFEN(TestPositions.FOOLS_MATED))));
+    }
+
+    @Test
+    public void testTakesHangingQueen() {
+        TestPositions.withPool(2, pool -> TestPositions.assertTakesHangingQueen(new YoungBrothersWait(4, pool)));
+    }
+}